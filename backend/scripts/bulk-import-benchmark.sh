@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# 명단 일괄 가입(/api/admin/users/import)과 기존 1건씩 가입(/api/auth/signup)의 처리량(rows/s) 비교
+#
+# 사용법: ADMIN_TOKEN=<관리자 Access Token> ./scripts/bulk-import-benchmark.sh [행 수] [서버 주소]
+# - 서버는 RATE_LIMIT_ENABLED=false, ADMIN_USER_IDS=<관리자 ID>로 실행해야 한다.
+# - 실행할 때마다 고유한 이메일/닉네임을 생성하므로 기존 데이터와 충돌하지 않는다.
+set -euo pipefail
+
+ROWS=${1:-1000}
+BASE_URL=${2:-http://localhost:8080}
+: "${ADMIN_TOKEN:?ADMIN_TOKEN 환경 변수가 필요합니다}"
+
+RUN_ID=$(date +%s)
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+now_ms() { date +%s%3N; }
+
+# 1. 1건씩 가입 (현재 signup API)
+start=$(now_ms)
+for i in $(seq 1 "$ROWS"); do
+    curl -s -o /dev/null -X POST "$BASE_URL/api/auth/signup" \
+        -H "Content-Type: application/json" \
+        -d "{\"email\":\"s${RUN_ID}_${i}@bench.pnu.ac.kr\",\"password\":\"Bench123!\",\"nickname\":\"s${RUN_ID}_${i}\"}"
+done
+elapsed=$(( $(now_ms) - start ))
+echo "signup (1건씩): ${ROWS}행, ${elapsed}ms, $(( ROWS * 1000 / (elapsed > 0 ? elapsed : 1) )) rows/s"
+
+# 2. 명단 일괄 가입
+CSV="$WORK_DIR/roster.csv"
+echo "email,password,nickname,phoneNumber" > "$CSV"
+for i in $(seq 1 "$ROWS"); do
+    echo "b${RUN_ID}_${i}@bench.pnu.ac.kr,Bench123!,b${RUN_ID}_${i}," >> "$CSV"
+done
+start=$(now_ms)
+curl -s -X POST "$BASE_URL/api/admin/users/import" \
+    -H "Authorization: Bearer $ADMIN_TOKEN" \
+    -H "Content-Type: text/csv" \
+    --data-binary "@$CSV" > "$WORK_DIR/import.json"
+elapsed=$(( $(now_ms) - start ))
+echo "import (일괄):   ${ROWS}행, ${elapsed}ms, $(( ROWS * 1000 / (elapsed > 0 ? elapsed : 1) )) rows/s"
+grep -o '"importedRows":[0-9]*\|"failedRows":[0-9]*\|"rowsPerSecond":[0-9.]*' "$WORK_DIR/import.json" || cat "$WORK_DIR/import.json"
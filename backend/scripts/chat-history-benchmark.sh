@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# 채팅 기록 깊은 페이지 조회 지연 비교: 커서(keyset, 현재 API) vs OFFSET
+#
+# 사용법: ./scripts/chat-history-benchmark.sh [방 메시지 수] [다른 방 수]
+# - psql 접속 정보는 PGHOST/PGPORT/PGUSER/PGDATABASE 환경 변수로 지정한다 (기본 basketball_db).
+# - docs/database/schema.sql이 적용된 DB가 필요하며, 음수 room_id로 데이터를 넣고 끝나면 삭제한다.
+set -euo pipefail
+
+MESSAGES=${1:-200000}
+OTHER_ROOMS=${2:-9}
+PAGE_SIZE=50
+REPEAT=5
+export PGDATABASE=${PGDATABASE:-basketball_db}
+
+ROOM_ID=-$(date +%s)
+EPOCH_MILLIS=1767225600000  # SnowflakeIdGenerator.EPOCH_MILLIS
+
+psql_q() { psql -X -q -t -A -v ON_ERROR_STOP=1 -c "$1"; }
+
+cleanup() {
+    psql_q "DELETE FROM chat_messages WHERE room_id BETWEEN $((ROOM_ID - OTHER_ROOMS)) AND $ROOM_ID" > /dev/null
+}
+trap cleanup EXIT
+
+# 1. 데이터 생성: 대상 방과 다른 방들의 메시지를 0.5초 간격으로 섞어 넣는다 (Snowflake 형식 ID)
+echo "데이터 생성: 방 $((OTHER_ROOMS + 1))개 x ${MESSAGES}건"
+psql_q "
+INSERT INTO chat_messages (room_id, message_id, sender_id, content, sent_at)
+SELECT $ROOM_ID - r,
+       ((floor(extract(epoch FROM ts::TIMESTAMPTZ) * 1000)::BIGINT - $EPOCH_MILLIS) << 22) | (r << 12) | (g % 4096),
+       (g % 20) + 1,
+       repeat('m', 40),
+       ts
+FROM generate_series(1, $MESSAGES) AS g,
+     generate_series(0, $OTHER_ROOMS) AS r,
+     LATERAL (SELECT date_trunc('milliseconds', now() - ($MESSAGES - g) * INTERVAL '500 milliseconds')::TIMESTAMP AS ts) t
+ON CONFLICT DO NOTHING"
+psql_q "ANALYZE chat_messages" > /dev/null
+
+# EXPLAIN ANALYZE 실행 시간(ms)의 중앙값
+measure() {
+    local sql=$1
+    for _ in $(seq 1 "$REPEAT"); do
+        psql_q "EXPLAIN (ANALYZE, FORMAT TEXT) $sql" | grep 'Execution Time' | grep -o '[0-9.]*'
+    done | sort -n | sed -n "$(( (REPEAT + 1) / 2 ))p"
+}
+
+COLUMNS="room_id, message_id, sender_id, content, sent_at"
+printf "\n%8s %12s %12s\n" "page" "offset(ms)" "keyset(ms)"
+for page in 1 10 100 1000 $(( MESSAGES / PAGE_SIZE - 1 )); do
+    offset=$(( page * PAGE_SIZE ))
+    # 이 페이지의 커서 = 이전 페이지 마지막 메시지 ID
+    cursor=$(psql_q "SELECT message_id FROM chat_messages WHERE room_id = $ROOM_ID
+                     ORDER BY message_id DESC LIMIT 1 OFFSET $(( offset - 1 ))")
+    cursor_ts=$(psql_q "SELECT to_timestamp((($cursor >> 22) + $EPOCH_MILLIS) / 1000.0)::TIMESTAMP")
+    
+    offset_ms=$(measure "SELECT $COLUMNS FROM chat_messages WHERE room_id = $ROOM_ID
+                         ORDER BY message_id DESC LIMIT $PAGE_SIZE OFFSET $offset")
+    keyset_ms=$(measure "SELECT $COLUMNS FROM chat_messages WHERE room_id = $ROOM_ID
+                         AND message_id < $cursor AND sent_at <= '$cursor_ts'
+                         ORDER BY message_id DESC LIMIT $PAGE_SIZE")
+    printf "%8d %12s %12s\n" "$page" "$offset_ms" "$keyset_ms"
+done
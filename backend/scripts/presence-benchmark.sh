@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+# 농구장 접속 현황 저장 비용: 활성 사용자 1만 명 기준 메모리와 하트비트 1건당 비용
+#
+# 사용법: ./scripts/presence-benchmark.sh [활성 사용자 수] [최대 user_id] [창(분)]
+# - redis-cli, redis-benchmark 필요. 접속 정보는 REDIS_HOST/REDIS_PORT (기본 localhost:6379).
+# - 최대 user_id를 생략하면 users 테이블의 실제 max(user_id)를 쓴다 (psql, PGHOST/PGPORT/PGUSER/PGDATABASE, 기본 basketball_db).
+# - presence:bench:* 키만 만들고 끝나면 삭제한다.
+set -euo pipefail
+
+export PGDATABASE=${PGDATABASE:-basketball_db}
+
+ACTIVE=${1:-10000}
+# 비트맵 크기는 가장 큰 user_id로 정해지므로, 실제 DB의 값으로 측정해야 운영 메모리와 맞는다
+MAX_USER_ID=${2:-$(psql -X -q -t -A -v ON_ERROR_STOP=1 -c "SELECT COALESCE(max(user_id), 0) FROM users")}
+WINDOW=${3:-5}  # presence.window-minutes
+if [ "$MAX_USER_ID" -lt "$ACTIVE" ]; then
+    echo "최대 user_id($MAX_USER_ID)가 활성 사용자 수($ACTIVE)보다 작습니다. 인자로 최대 user_id를 지정하세요." >&2
+    exit 1
+fi
+REQUESTS=200000
+HOST=${REDIS_HOST:-localhost}
+PORT=${REDIS_PORT:-6379}
+PREFIX="presence:bench:$$"
+
+cli() { redis-cli -h "$HOST" -p "$PORT" "$@"; }
+
+IDS=$(mktemp)
+
+cleanup() {
+    rm -f "$IDS"
+    cli --scan --pattern "$PREFIX:*" | xargs -r redis-cli -h "$HOST" -p "$PORT" DEL > /dev/null
+}
+trap cleanup EXIT
+
+# RESP 형식으로 명령을 만들어 한 번에 보낸다: resp <명령> <키> <값 목록 파일> [추가 인자]
+resp() {
+    local command=$1 key=$2 file=$3 extra=${4:-}
+    awk -v c="$command" -v k="$key" -v x="$extra" '{
+        n = (x == "") ? 3 : 4
+        printf "*%d\r\n$%d\r\n%s\r\n$%d\r\n%s\r\n$%d\r\n%s\r\n", n, length(c), c, length(k), k, length($1), $1
+        if (x != "") printf "$%d\r\n%s\r\n", length(x), x
+    }' "$file" | cli --pipe > /dev/null
+}
+
+# 1. 활성 사용자 ID: 1..MAX_USER_ID 중 임의의 ACTIVE명
+shuf -i 1-"$MAX_USER_ID" -n "$ACTIVE" > "$IDS"
+
+resp SETBIT "$PREFIX:bitmap" "$IDS" 1
+resp SADD "$PREFIX:set" "$IDS"
+resp PFADD "$PREFIX:hll" "$IDS"
+
+bytes() { cli MEMORY USAGE "$1" SAMPLES 0; }
+BITMAP=$(bytes "$PREFIX:bitmap")
+SET=$(bytes "$PREFIX:set")
+HLL=$(bytes "$PREFIX:hll")
+
+echo "== 메모리: 활성 ${ACTIVE}명, 최대 user_id ${MAX_USER_ID} (키 1개 = 농구장 1곳의 1분 버킷)"
+printf "%-22s %10s %14s\n" "구조" "바이트" "x 창(${WINDOW}분)"
+printf "%-22s %10d %14d\n" "bitmap (현재 구현)" "$BITMAP" $((BITMAP * WINDOW))
+printf "%-22s %10d %14d\n" "set" "$SET" $((SET * WINDOW))
+printf "%-22s %10d %14d   (인원 수만, 목록 불가, 오차 약 0.8%%)\n" "hyperloglog" "$HLL" $((HLL * WINDOW))
+echo "HLL 추정 인원: $(cli PFCOUNT "$PREFIX:hll") / 비트맵 인원: $(cli BITCOUNT "$PREFIX:bitmap")"
+echo "참고: 비트맵은 활성 인원과 무관하게 최대 user_id/8 바이트이므로, 농구장마다 접속자가 적으면 set이 더 작을 수 있다."
+
+# 2. 하트비트 1건 비용 (SETBIT 임의 오프셋)
+echo
+echo "== 하트비트 비용: SETBIT ${REQUESTS}건"
+for pipeline in 1 16 256; do
+    result=$(redis-benchmark -h "$HOST" -p "$PORT" -q -n "$REQUESTS" -c 50 -P "$pipeline" -r "$MAX_USER_ID" \
+            SETBIT "$PREFIX:heartbeat" __rand_int__ 1 | tr '\r' '\n' | grep -E 'requests per second' | tail -1)
+    rps=$(echo "$result" | grep -oE '[0-9]+(\.[0-9]+)?' | head -1)
+    per_op=$(awk -v r="$rps" 'BEGIN { printf "%.2f", 1000000 / r }')
+    printf "파이프라인 %-4s %12s req/s  (건당 %s us)\n" "$pipeline" "$rps" "$per_op"
+done
+echo "서버는 세션 하트비트를 주기마다 한 파이프라인으로 보낸다 (PresenceSessionRegistry, presence.refresh 타이머)."
+
+# 3. 인원 수 조회 비용: 창의 버킷 WINDOW개를 서버에서 OR한 뒤 BITCOUNT (PresenceStore.counts와 같은 명령)
+echo
+echo "== 조회 비용: BITOP OR ${WINDOW}개 버킷 + BITCOUNT"
+WINDOW_KEYS=()
+for i in $(seq 1 "$WINDOW"); do
+    cli COPY "$PREFIX:bitmap" "$PREFIX:window:$i" REPLACE > /dev/null
+    WINDOW_KEYS+=("$PREFIX:window:$i")
+done
+for command in "BITOP OR $PREFIX:union ${WINDOW_KEYS[*]}" "BITCOUNT $PREFIX:union"; do
+    result=$(redis-benchmark -h "$HOST" -p "$PORT" -q -n 20000 -c 50 $command | tr '\r' '\n' | grep -E 'requests per second' | tail -1)
+    rps=$(echo "$result" | grep -oE '[0-9]+(\.[0-9]+)?' | head -1)
+    printf "%-10s %12s req/s\n" "${command%% *}" "$rps"
+done
+echo "응답은 정수 하나이므로, 버킷을 GET해 애플리케이션에서 OR할 때와 달리 네트워크로 비트맵(${BITMAP}바이트 x ${WINDOW})을 옮기지 않는다."
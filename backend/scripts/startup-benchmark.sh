@@ -0,0 +1,75 @@
+#!/usr/bin/env bash
+# 기동 모드별 "프로세스 시작 → 첫 로그인 성공(/api/auth/login 200)"까지 걸린 시간 측정
+#
+# 사용법: LOGIN_EMAIL=<가입된 이메일> LOGIN_PASSWORD=<비밀번호> ./scripts/startup-benchmark.sh [모드...]
+# 모드: jvm | prod | aot | cds | native (기본: jvm prod aot cds)
+#   jvm    기본 프로필 (ddl-auto update, springdoc, OAuth2 client)
+#   prod   prod 프로필 (ddl-auto none, 지연 초기화, 개발용 구성 제외)
+#   aot    prod + Spring AOT (-Dspring.aot.enabled=true)
+#   cds    prod + AOT + AppCDS (./gradlew cdsArchive 선행)
+#   native 네이티브 이미지 (./gradlew nativeCompile 선행)
+# 사전 준비: ./gradlew bootJar explodeBootJar (cds는 cdsArchive 포함), DB/Redis 실행
+# 결과는 build/startup-benchmark.csv에 누적된다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+: "${LOGIN_EMAIL:?LOGIN_EMAIL 환경 변수가 필요합니다}"
+: "${LOGIN_PASSWORD:?LOGIN_PASSWORD 환경 변수가 필요합니다}"
+PORT=${PORT:-8080}
+RUNS=${RUNS:-3}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+MODES=("$@")
+[ ${#MODES[@]} -eq 0 ] && MODES=(jvm prod aot cds)
+
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+APP_DIR=build/cds/app
+RESULTS=build/startup-benchmark.csv
+[ -f "$RESULTS" ] || echo "timestamp,mode,run,millis" > "$RESULTS"
+
+now_ms() { date +%s%3N; }
+
+start_app() {
+    local mode=$1
+    case "$mode" in
+        jvm)    exec java -jar "$JAR" --server.port="$PORT" ;;
+        prod)   exec java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=prod ;;
+        aot)    exec java -Dspring.aot.enabled=true -jar "$JAR" --server.port="$PORT" --spring.profiles.active=prod ;;
+        cds)    cd "$APP_DIR" && exec java -XX:SharedArchiveFile=../application.jsa -Xshare:auto \
+                    -Dspring.aot.enabled=true -Dspring.profiles.active=prod \
+                    -cp 'BOOT-INF/classes:BOOT-INF/lib/*' com.pnu.basketball.BasketballApplication --server.port="$PORT" ;;
+        native) exec build/native/nativeCompile/basketball-backend --server.port="$PORT" --spring.profiles.active=prod ;;
+        *)      echo "알 수 없는 모드: $mode" >&2; exit 1 ;;
+    esac
+}
+
+for mode in "${MODES[@]}"; do
+    for run in $(seq 1 "$RUNS"); do
+        start=$(now_ms)
+        start_app "$mode" > "$PWD/build/startup-$mode.log" 2>&1 &
+        pid=$!
+        
+        elapsed=""
+        deadline=$(( start + TIMEOUT_SECONDS * 1000 ))
+        while [ "$(now_ms)" -lt "$deadline" ]; do
+            status=$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/api/auth/login" \
+                -H "Content-Type: application/json" \
+                -d "{\"email\":\"$LOGIN_EMAIL\",\"password\":\"$LOGIN_PASSWORD\"}" || true)
+            if [ "$status" = "200" ]; then
+                elapsed=$(( $(now_ms) - start ))
+                break
+            fi
+            sleep 0.05
+        done
+        
+        kill "$pid" 2>/dev/null || true
+        wait "$pid" 2>/dev/null || true
+        
+        if [ -z "$elapsed" ]; then
+            echo "$mode #$run: ${TIMEOUT_SECONDS}초 안에 로그인 실패 (build/startup-$mode.log 확인)"
+            continue
+        fi
+        echo "$mode #$run: 첫 로그인 성공까지 ${elapsed}ms"
+        echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$mode,$run,$elapsed" >> "$RESULTS"
+    done
+done
@@ -0,0 +1,60 @@
+package com.pnu.basketball.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.domain.LoginType;
+import com.pnu.basketball.dto.response.ApiResponse;
+import com.pnu.basketball.dto.response.AuthResponse;
+import com.pnu.basketball.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 응답(ApiResponse&lt;AuthResponse&gt;) JSON 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ApiResponseSerializationBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private ApiResponse<AuthResponse> loginResponse;
+    
+    @Setup
+    public void setUp() {
+        // Spring MVC 메시지 컨버터와 동일한 기본 설정
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        AuthResponse authResponse = AuthResponse.builder()
+                .accessToken(jwtUtil.generateAccessToken(
+                        BenchmarkFixtures.USER_ID,
+                        BenchmarkFixtures.EMAIL,
+                        BenchmarkFixtures.NICKNAME,
+                        BenchmarkFixtures.LOGIN_TYPE))
+                .refreshToken(jwtUtil.generateRefreshToken(BenchmarkFixtures.USER_ID, BenchmarkFixtures.SESSION_ID))
+                .tokenType("Bearer")
+                .expiresIn(3600L)
+                .user(AuthResponse.UserInfo.builder()
+                        .userId(BenchmarkFixtures.USER_ID)
+                        .email(BenchmarkFixtures.EMAIL)
+                        .nickname(BenchmarkFixtures.NICKNAME)
+                        .loginType(LoginType.EMAIL)
+                        .isNewUser(false)
+                        .build())
+                .build();
+        loginResponse = ApiResponse.success(authResponse, "로그인 성공");
+    }
+    
+    @Benchmark
+    public byte[] serializeLoginResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(loginResponse);
+    }
+}
@@ -0,0 +1,33 @@
+package com.pnu.basketball.benchmark;
+
+import com.pnu.basketball.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 벤치마크 공통 픽스처 (application.yml 기본값과 동일한 설정)
+ */
+final class BenchmarkFixtures {
+    
+    static final String JWT_SECRET = "your-secret-key-change-in-production-min-256-bits";
+    static final long ACCESS_TOKEN_EXPIRATION = 3600000L;
+    static final long REFRESH_TOKEN_EXPIRATION = 604800000L;
+    
+    static final Long USER_ID = 1024L;
+    static final String EMAIL = "player@pusan.ac.kr";
+    static final String NICKNAME = "김민준";
+    static final String LOGIN_TYPE = "EMAIL";
+    static final String SESSION_ID = "5f0c6a8e-2d4b-4c1e-9a53-6b7d2e8f1a90";
+    
+    private BenchmarkFixtures() {
+    }
+    
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
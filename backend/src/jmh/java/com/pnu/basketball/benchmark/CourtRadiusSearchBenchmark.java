@@ -0,0 +1,91 @@
+package com.pnu.basketball.benchmark;
+
+import com.pnu.basketball.util.GeoGridIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 3km 농구장 검색 지연 시간: 격자 공간 인덱스 vs 전체 선형 탐색 (부산 지역에 무작위 분포)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourtRadiusSearchBenchmark {
+    
+    private static final double MIN_LATITUDE = 35.05;
+    private static final double MAX_LATITUDE = 35.30;
+    private static final double MIN_LONGITUDE = 128.90;
+    private static final double MAX_LONGITUDE = 129.25;
+    private static final double RADIUS_METERS = 3_000;
+    private static final int LIMIT = 50;
+    private static final int QUERY_COUNT = 1_024;
+    
+    @Param({"10000", "100000"})
+    private int courtCount;
+    
+    private GeoGridIndex index;
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[][] queries;
+    private int next;
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new GeoGridIndex(0.01);
+        latitudes = new double[courtCount];
+        longitudes = new double[courtCount];
+        for (int i = 0; i < courtCount; i++) {
+            latitudes[i] = random.nextDouble(MIN_LATITUDE, MAX_LATITUDE);
+            longitudes[i] = random.nextDouble(MIN_LONGITUDE, MAX_LONGITUDE);
+            index.put(i, latitudes[i], longitudes[i]);
+        }
+        
+        queries = new double[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = new double[]{
+                    random.nextDouble(MIN_LATITUDE, MAX_LATITUDE),
+                    random.nextDouble(MIN_LONGITUDE, MAX_LONGITUDE)
+            };
+        }
+    }
+    
+    @Benchmark
+    public void gridIndex(Blackhole blackhole) {
+        double[] query = nextQuery();
+        blackhole.consume(index.search(query[0], query[1], RADIUS_METERS, LIMIT));
+    }
+    
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        double[] query = nextQuery();
+        List<GeoGridIndex.Hit> hits = new ArrayList<>();
+        for (int i = 0; i < courtCount; i++) {
+            double distance = GeoGridIndex.distanceMeters(query[0], query[1], latitudes[i], longitudes[i]);
+            if (distance <= RADIUS_METERS) {
+                hits.add(new GeoGridIndex.Hit(i, distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(GeoGridIndex.Hit::distanceMeters));
+        blackhole.consume(hits.size() > LIMIT ? hits.subList(0, LIMIT) : hits);
+    }
+    
+    private double[] nextQuery() {
+        double[] query = queries[next];
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return query;
+    }
+}
@@ -0,0 +1,77 @@
+package com.pnu.basketball.benchmark;
+
+import com.pnu.basketball.config.filter.JwtAuthenticationFilter;
+import com.pnu.basketball.util.AccessTokenRevocationList;
+import com.pnu.basketball.util.AccessTokenVerifier;
+import com.pnu.basketball.util.JwtUtil;
+import com.pnu.basketball.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건이 JwtAuthenticationFilter를 통과하는 비용 (검증 토큰 캐시 사용/미사용, 폐기 목록 크기별)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+    
+    @Param({"true", "false"})
+    private boolean tokenCacheEnabled;
+    
+    @Param({"0", "100000"})
+    private int revokedTokens;
+    
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+    
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(
+                tokenCacheEnabled, 10_000, new SimpleMeterRegistry());
+        // Redis 없이 메모리 집합만 사용 (init()을 호출하지 않음)
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(null, null, new SimpleMeterRegistry());
+        long expiresAtMillis = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        for (int i = 0; i < revokedTokens; i++) {
+            revocationList.add(UUID.randomUUID(), expiresAtMillis);
+        }
+        filter = new JwtAuthenticationFilter(new AccessTokenVerifier(jwtUtil, verifiedTokenCache, revocationList));
+        
+        String accessToken = jwtUtil.generateAccessToken(
+                BenchmarkFixtures.USER_ID,
+                BenchmarkFixtures.EMAIL,
+                BenchmarkFixtures.NICKNAME,
+                BenchmarkFixtures.LOGIN_TYPE
+        );
+        
+        request = new MockHttpServletRequest("GET", "/api/auth/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> { };
+    }
+    
+    @Benchmark
+    public void authenticatedRequest(Blackhole blackhole) throws Exception {
+        filter.doFilter(request, response, filterChain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
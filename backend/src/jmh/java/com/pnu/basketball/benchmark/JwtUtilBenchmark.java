@@ -0,0 +1,70 @@
+package com.pnu.basketball.benchmark;
+
+import com.pnu.basketball.util.JwtPrincipal;
+import com.pnu.basketball.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+    
+    private JwtUtil jwtUtil;
+    private String accessToken;
+    
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        accessToken = jwtUtil.generateAccessToken(
+                BenchmarkFixtures.USER_ID,
+                BenchmarkFixtures.EMAIL,
+                BenchmarkFixtures.NICKNAME,
+                BenchmarkFixtures.LOGIN_TYPE
+        );
+    }
+    
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(
+                BenchmarkFixtures.USER_ID,
+                BenchmarkFixtures.EMAIL,
+                BenchmarkFixtures.NICKNAME,
+                BenchmarkFixtures.LOGIN_TYPE
+        );
+    }
+    
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtil.generateRefreshToken(BenchmarkFixtures.USER_ID, BenchmarkFixtures.SESSION_ID);
+    }
+    
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(accessToken);
+    }
+    
+    /**
+     * 기존 필터 경로: validateToken(파싱 1회) + extractUserId(파싱 1회)
+     */
+    @Benchmark
+    public Long validateThenExtractUserId() {
+        return jwtUtil.validateToken(accessToken) ? jwtUtil.extractUserId(accessToken) : null;
+    }
+    
+    /**
+     * 단일 패스 검증 경로
+     */
+    @Benchmark
+    public JwtPrincipal verifyAccessToken() {
+        return jwtUtil.verifyAccessToken(accessToken);
+    }
+}
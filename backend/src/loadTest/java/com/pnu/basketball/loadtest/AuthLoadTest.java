@@ -0,0 +1,352 @@
+package com.pnu.basketball.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.BasketballApplication;
+import com.pnu.basketball.loadtest.standin.FakeGoogleIssuer;
+import com.pnu.basketball.loadtest.standin.LocalPostgres;
+import com.pnu.basketball.loadtest.standin.LocalRedis;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인증 API 오프라인 부하 테스트.
+ * 같은 JVM에 임시 PostgreSQL(schema.sql 적용), Redis 호환 서버, 구글 ID Token 발급자 대역을 띄우고
+ * BasketballApplication을 그 위에 기동한 뒤, 시나리오를 순서대로 실행해 처리량과 지연 분위수를 보고한다.
+ *
+ * 실행 간 비교를 위해:
+ * - 매 실행 빈 DB/Redis에서 시작하고, 입력(계정 선택, 닉네임 등)은 seed로 고정한다.
+ * - 시나리오마다 요청 수가 정해져 있고(시간 기준 아님), 측정 전 warmup 요청은 기록하지 않는다.
+ * - rate를 주면 개방형 부하로 예정 시각부터 지연을 재므로 서버가 밀릴 때 지연이 과소 측정되지 않는다 (coordinated omission).
+ * - 보고서의 settings(설정 + CPU/JVM)가 기준 파일과 같을 때만 회귀를 판정한다.
+ * - virtualThreads로 서버의 spring.threads.virtual.enabled를 정하고, compare에 다른 모드의 보고서를 주면
+ *   virtualThreads만 다른 두 실행을 나란히 비교한 표(comparison-virtualThreads-*.md)를 남긴다.
+ *
+ * ./gradlew authLoadTest [-Pscenarios=signup,login,refresh,me,checkNickname,google -Pthreads=32 -Prequests=5000
+ *                         -Pwarmup=500 -Pusers=500 -Prate=0 -Pseed=42 -Pbaseline=build/reports/loadtest/baseline.json
+ *                         -PvirtualThreads=true -Pcompare=build/reports/loadtest/platform.json]
+ */
+public class AuthLoadTest {
+    
+    private static final String CLIENT_ID = "loadtest-client.apps.googleusercontent.com";
+    private static final String PASSWORD = "Test1234!";
+    private static final List<String> ALL_SCENARIOS = List.of("signup", "login", "refresh", "me", "checkNickname", "google");
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final FakeGoogleIssuer google;
+    private final int threads;
+    private final long seed;
+    private final double rate;
+    private final List<Account> accounts = new ArrayList<>();
+    private int signupSequence;
+    
+    private AuthLoadTest(String baseUrl, FakeGoogleIssuer google, int threads, long seed, double rate) {
+        this.baseUrl = baseUrl;
+        this.google = google;
+        this.threads = threads;
+        this.seed = seed;
+        this.rate = rate;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(threads))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+    
+    public static void main(String[] args) throws Exception {
+        List<String> scenarios = Arrays.asList(System.getProperty("scenarios", String.join(",", ALL_SCENARIOS)).split(","));
+        int threads = Integer.parseInt(System.getProperty("threads", "32"));
+        int requests = Integer.parseInt(System.getProperty("requests", "5000"));
+        int warmup = Integer.parseInt(System.getProperty("warmup", "500"));
+        int users = Integer.parseInt(System.getProperty("users", "500"));
+        double rate = Double.parseDouble(System.getProperty("rate", "0"));
+        long seed = Long.parseLong(System.getProperty("seed", "42"));
+        boolean rateLimit = Boolean.parseBoolean(System.getProperty("rateLimit", "false"));
+        boolean virtualThreads = Boolean.parseBoolean(System.getProperty("virtualThreads", "false"));
+        Path schema = Path.of(System.getProperty("schema", "../docs/database/schema.sql"));
+        Path reportDir = Path.of(System.getProperty("reportDir", "build/reports/loadtest"));
+        String baseline = System.getProperty("baseline", "");
+        double tolerance = Double.parseDouble(System.getProperty("tolerance", "0.15"));
+        String compare = System.getProperty("compare", "");
+        
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("scenarios", scenarios);
+        settings.put("threads", threads);
+        settings.put("requests", requests);
+        settings.put("warmup", warmup);
+        settings.put("users", users);
+        settings.put("rate", rate);
+        settings.put("seed", seed);
+        settings.put("rateLimit", rateLimit);
+        settings.put("virtualThreads", virtualThreads);
+        settings.put("cpus", Runtime.getRuntime().availableProcessors());
+        settings.put("maxHeapMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        settings.put("java", System.getProperty("java.version"));
+        LoadReport report = new LoadReport(settings);
+        
+        System.out.println("대역 기동: PostgreSQL, Redis, 구글 발급자");
+        try (LocalPostgres postgres = LocalPostgres.start(schema);
+             LocalRedis redis = LocalRedis.start();
+             FakeGoogleIssuer google = FakeGoogleIssuer.start(CLIENT_ID);
+             ConfigurableApplicationContext application = boot(postgres, redis, google, rateLimit, virtualThreads)) {
+            String baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            AuthLoadTest loadTest = new AuthLoadTest(baseUrl, google, threads, seed, rate);
+            
+            System.out.printf("계정 준비: %d명%n", users);
+            loadTest.prepareAccounts(users);
+            for (String scenario : scenarios) {
+                System.out.printf("시나리오 %s: warmup %d, 측정 %d (스레드 %d)%n", scenario, warmup, requests, threads);
+                loadTest.run(scenario, warmup, null);
+                loadTest.run(scenario, requests, report);
+            }
+            System.out.printf("구글 인증서 조회: %d회%n", google.certsRequests());
+        }
+        
+        report.print();
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path reportFile = reportDir.resolve("auth-" + timestamp + ".json");
+        report.write(reportFile);
+        report.write(reportDir.resolve("latest.json"));
+        System.out.printf("%n보고서: %s%n", reportFile);
+        
+        if (!compare.isEmpty()) {
+            String table = report.sideBySide(Path.of(compare), "virtualThreads");
+            if (table != null) {
+                Path comparisonFile = reportDir.resolve("comparison-virtualThreads-" + timestamp + ".md");
+                Files.writeString(comparisonFile, table);
+                System.out.printf("%n%s%n비교 보고서: %s%n", table, comparisonFile);
+            }
+        }
+        
+        if (!baseline.isEmpty()) {
+            List<String> regressions = report.compare(Path.of(baseline), tolerance);
+            if (!regressions.isEmpty()) {
+                System.out.printf("회귀: %s%n", regressions);
+                System.exit(1);
+            }
+        }
+        System.exit(0);
+    }
+    
+    private static ConfigurableApplicationContext boot(LocalPostgres postgres, LocalRedis redis,
+                                                       FakeGoogleIssuer google, boolean rateLimit,
+                                                       boolean virtualThreads) {
+        SpringApplication application = new SpringApplication(BasketballApplication.class);
+        return application.run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=" + postgres.jdbcUrl(),
+                "--spring.datasource.username=" + postgres.username(),
+                "--spring.data.redis.host=" + redis.host(),
+                "--spring.data.redis.port=" + redis.port(),
+                "--google.oauth2.client-id=" + CLIENT_ID,
+                "--google.oauth2.certs-url=" + google.certsUrl(),
+                "--rate-limit.enabled=" + rateLimit,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--logging.level.com.pnu.basketball=WARN");  // 요청마다 남는 로그가 측정에 섞이지 않도록
+    }
+    
+    private void prepareAccounts(int users) throws Exception {
+        List<Account> created = execute(users, (index, random) -> signup()).results();
+        created.forEach(account -> {
+            if (account != null) {
+                accounts.add(account);
+            }
+        });
+        if (accounts.isEmpty()) {
+            throw new IllegalStateException("계정을 만들지 못했습니다: " + baseUrl);
+        }
+    }
+    
+    private void run(String scenario, int requests, LoadReport report) throws Exception {
+        Call<Object> call = switch (scenario) {
+            case "signup" -> (index, random) -> signup();
+            case "login" -> (index, random) -> login(pick(random));
+            case "refresh" -> (index, random) -> refresh(pick(random));
+            case "me" -> (index, random) -> me(pick(random));
+            case "checkNickname" -> (index, random) -> checkNicknamePrefix(pick(random), index);
+            case "google" -> (index, random) -> google(random.nextInt(Math.max(accounts.size(), 1) * 2));
+            default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+        };
+        Batch<Object> batch = execute(requests, call);
+        if (report != null) {
+            report.add(scenario, batch.latencyMicros(), batch.errors(), batch.elapsedNanos());
+        }
+    }
+    
+    // 시나리오 요청 (실패는 RequestFailure로 구분해 오류 종류별로 센다)
+    
+    private Account signup() throws IOException, InterruptedException {
+        int sequence;
+        synchronized (this) {
+            sequence = signupSequence++;
+        }
+        String suffix = Long.toString(seed, 36) + "x" + Integer.toString(sequence, 36);
+        String email = "load-" + suffix + "@loadtest.local";
+        JsonNode data = post("/api/auth/signup", null, Map.of(
+                "email", email, "password", PASSWORD, "nickname", "u" + suffix));
+        return new Account(email, "u" + suffix, data.path("accessToken").asText(), data.path("refreshToken").asText());
+    }
+    
+    private Object login(Account account) throws IOException, InterruptedException {
+        return post("/api/auth/login", null, Map.of("email", account.email(), "password", PASSWORD));
+    }
+    
+    private Object refresh(Account account) throws IOException, InterruptedException {
+        return post("/api/auth/refresh", null, Map.of("refreshToken", account.refreshToken()));
+    }
+    
+    private Object me(Account account) throws IOException, InterruptedException {
+        return get("/api/auth/me", account.accessToken());
+    }
+    
+    /**
+     * 닉네임 입력 중 중복 확인: 요청 index마다 한 글자씩 늘어나는 접두사 (2글자부터)
+     */
+    private Object checkNicknamePrefix(Account account, int index) throws IOException, InterruptedException {
+        String nickname = account.nickname();
+        int length = 2 + index % Math.max(nickname.length() - 1, 1);
+        String prefix = nickname.substring(0, Math.min(length, nickname.length()));
+        return get("/api/auth/check-nickname?nickname=" + URLEncoder.encode(prefix, StandardCharsets.UTF_8), null);
+    }
+    
+    /**
+     * 구글 로그인: googleId 범위를 계정 수의 2배로 잡아 신규 가입과 재로그인이 섞이게 한다.
+     */
+    private Object google(int googleUser) throws IOException, InterruptedException {
+        String googleId = "g" + seed + "-" + googleUser;
+        String idToken = google.idToken(googleId, googleId + "@gmail.test", "구글" + googleUser);
+        return post("/api/auth/google", null, Map.of("idToken", idToken));
+    }
+    
+    private Account pick(Random random) {
+        return accounts.get(random.nextInt(accounts.size()));
+    }
+    
+    private JsonNode post(String path, String accessToken, Map<String, Object> body) throws IOException, InterruptedException {
+        return send(request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build());
+    }
+    
+    private JsonNode get(String path, String accessToken) throws IOException, InterruptedException {
+        return send(request(path, accessToken).GET().build());
+    }
+    
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+    
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new RequestFailure("HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("data");
+    }
+    
+    // 실행기
+    
+    /**
+     * requests개 요청을 threads개 스레드에 나눠 실행한다. 스레드별 입력 난수는 seed + 스레드 번호로 고정된다.
+     * rate > 0이면 스레드마다 예정 시각에 맞춰 보내고 지연을 예정 시각부터 잰다.
+     */
+    private <T> Batch<T> execute(int requests, Call<T> call) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        long intervalNanos = rate > 0 ? (long) (threads * 1_000_000_000L / rate) : 0;
+        long startedAt = System.nanoTime();
+        List<Future<Batch<T>>> futures = new ArrayList<>();
+        for (int worker = 0; worker < threads; worker++) {
+            int workerIndex = worker;
+            futures.add(workers.submit(() -> {
+                Random random = new Random(seed + workerIndex);
+                Histogram latency = new Histogram(3);
+                Map<String, Long> errors = new HashMap<>();
+                List<T> results = new ArrayList<>();
+                long firstAt = startedAt + intervalNanos * workerIndex / threads;
+                int sent = 0;
+                for (int index = workerIndex; index < requests; index += threads, sent++) {
+                    long scheduledAt = intervalNanos > 0 ? firstAt + sent * intervalNanos : System.nanoTime();
+                    long wait = scheduledAt - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    T result = null;
+                    try {
+                        result = call.call(index, random);
+                    } catch (RequestFailure e) {
+                        errors.merge(e.getMessage(), 1L, Long::sum);
+                    } catch (IOException e) {
+                        errors.merge(e.getClass().getSimpleName(), 1L, Long::sum);
+                    }
+                    latency.recordValue(Math.max((System.nanoTime() - scheduledAt) / 1000, 1));
+                    results.add(result);
+                }
+                return new Batch<>(results, latency, errors, 0);
+            }));
+        }
+        
+        Histogram latency = new Histogram(3);
+        Map<String, Long> errors = new HashMap<>();
+        List<T> results = new ArrayList<>();
+        for (Future<Batch<T>> future : futures) {
+            Batch<T> batch = future.get();
+            latency.add(batch.latencyMicros());
+            batch.errors().forEach((type, count) -> errors.merge(type, count, Long::sum));
+            results.addAll(batch.results());
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        workers.shutdown();
+        return new Batch<>(results, latency, errors, elapsedNanos);
+    }
+    
+    @FunctionalInterface
+    private interface Call<T> {
+        T call(int index, Random random) throws IOException, InterruptedException;
+    }
+    
+    private record Batch<T>(List<T> results, Histogram latencyMicros, Map<String, Long> errors, long elapsedNanos) {
+    }
+    
+    private record Account(String email, String nickname, String accessToken, String refreshToken) {
+    }
+    
+    private static class RequestFailure extends IOException {
+        RequestFailure(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.pnu.basketball.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.dto.response.ChatMessageResponse;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.WebSocketContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 채팅 부하 테스트 클라이언트 (실행 중인 서버 대상).
+ * 사용자 가입 → 농구장/경기 생성 → 방별 참가 후 모든 세션이 방을 구독하고, 방마다 일부 세션이 일정 속도로 메시지를 보낸다.
+ * 전달 지연은 보낸 시각(System.nanoTime, 같은 JVM)을 메시지에 넣어 수신 시 계산한다.
+ *
+ * 서버: RATE_LIMIT_ENABLED=false ./gradlew bootRun
+ * 실행: ./gradlew chatLoadTest [-Psessions=1000 -ProomSize=20 -PsendersPerRoom=2 -Prate=5 -Pduration=30 -PbaseUrl=http://localhost:8080]
+ */
+public class ChatLoadTest {
+    
+    private static final String PASSWORD = "Test1234!";
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final String baseUrl;
+    
+    private ChatLoadTest(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+        int sessions = Integer.parseInt(System.getProperty("sessions", "1000"));
+        int roomSize = Integer.parseInt(System.getProperty("roomSize", "20"));
+        int sendersPerRoom = Integer.parseInt(System.getProperty("sendersPerRoom", "2"));
+        double rate = Double.parseDouble(System.getProperty("rate", "5"));
+        int durationSeconds = Integer.parseInt(System.getProperty("duration", "30"));
+        
+        new ChatLoadTest(baseUrl).run(sessions, roomSize, sendersPerRoom, rate, durationSeconds);
+    }
+    
+    private void run(int sessions, int roomSize, int sendersPerRoom, double rate, int durationSeconds) throws Exception {
+        int rooms = sessions / roomSize;
+        String runId = Long.toString(System.currentTimeMillis() % 100_000_000L, 36);
+        
+        System.out.printf("가입: %d명%n", rooms * roomSize);
+        List<String> tokens = signup(runId, rooms * roomSize);
+        
+        long courtId = post("/api/courts", tokens.get(0), Map.of(
+                "name", "chat-load-" + runId, "latitude", 35.2316, "longitude", 129.0825)).path("courtId").asLong();
+        
+        System.out.printf("경기 생성/참가: %d개 방 x %d명%n", rooms, roomSize);
+        long[] matchIds = new long[rooms];
+        for (int room = 0; room < rooms; room++) {
+            matchIds[room] = post("/api/matches", tokens.get(room * roomSize), Map.of(
+                    "courtId", courtId,
+                    "title", "chat-load-" + runId + "-" + room,
+                    "capacity", roomSize,
+                    "startsAt", LocalDateTime.now().plusHours(2).toString())).path("matchId").asLong();
+            for (int member = 1; member < roomSize; member++) {
+                post("/api/matches/" + matchIds[room] + "/participants", tokens.get(room * roomSize + member), Map.of());
+            }
+        }
+        
+        System.out.printf("STOMP 연결/구독: %d 세션%n", rooms * roomSize);
+        WebSocketStompClient stompClient = stompClient();
+        Receiver[] receivers = new Receiver[rooms * roomSize];
+        StompSession[] stompSessions = new StompSession[rooms * roomSize];
+        List<CompletableFuture<StompSession>> connecting = new ArrayList<>();
+        for (int i = 0; i < receivers.length; i++) {
+            WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+            headers.add(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get(i));
+            connecting.add(stompClient.connectAsync(
+                    baseUrl.replaceFirst("^http", "ws") + "/ws", headers, new StompHeaders(), new StompSessionHandlerAdapter() { }));
+        }
+        for (int i = 0; i < receivers.length; i++) {
+            stompSessions[i] = connecting.get(i).get(30, TimeUnit.SECONDS);
+            receivers[i] = new Receiver();
+            stompSessions[i].subscribe("/topic/matches/" + matchIds[i / roomSize] + "/chat", receivers[i]);
+        }
+        Thread.sleep(1000);  // SUBSCRIBE 처리 대기
+        
+        System.out.printf("전송: 방마다 %d명 x %.1f msg/s, %d초%n", sendersPerRoom, rate, durationSeconds);
+        AtomicLong sent = new AtomicLong();
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        long periodMicros = (long) (1_000_000 / rate);
+        long startedAt = System.nanoTime();
+        for (int room = 0; room < rooms; room++) {
+            for (int sender = 0; sender < sendersPerRoom; sender++) {
+                StompSession session = stompSessions[room * roomSize + sender];
+                String destination = "/app/matches/" + matchIds[room] + "/chat";
+                senders.scheduleAtFixedRate(() -> {
+                    session.send(destination, Map.of("content", Long.toString(System.nanoTime())));
+                    sent.incrementAndGet();
+                }, (long) (Math.random() * periodMicros), periodMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+        Thread.sleep(durationSeconds * 1000L);
+        senders.shutdownNow();
+        long sendElapsedNanos = System.nanoTime() - startedAt;
+        Thread.sleep(3000);  // 전달 대기
+        
+        report(receivers, sent.get(), roomSize, sendElapsedNanos);
+        for (StompSession session : stompSessions) {
+            session.disconnect();
+        }
+        stompClient.stop();
+        System.exit(0);
+    }
+    
+    private List<String> signup(String runId, int count) throws InterruptedException {
+        // 서버 해싱 풀 대기열을 넘지 않도록 동시 요청 수 제한
+        Semaphore inFlight = new Semaphore(Runtime.getRuntime().availableProcessors() * 2);
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            inFlight.acquire();
+            int index = i;
+            futures.add(CompletableFuture.supplyAsync(() -> post("/api/auth/signup", null, Map.of(
+                    "email", "chat-" + runId + "-" + index + "@example.com",
+                    "password", PASSWORD,
+                    "nickname", "c" + runId + "_" + index)).path("accessToken").asText())
+                    .whenComplete((token, e) -> inFlight.release()));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+    
+    private JsonNode post(String path, String token, Map<String, Object> body) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+            if (token != null) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException(path + " " + response.statusCode() + ": " + response.body());
+            }
+            return objectMapper.readTree(response.body()).path("data");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private WebSocketStompClient stompClient() {
+        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+        container.setDefaultMaxTextMessageBufferSize(512 * 1024);  // 묶음 프레임 수신
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient(container));
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+        stompClient.setInboundMessageSizeLimit(512 * 1024);
+        
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("stomp-heartbeat-");
+        scheduler.initialize();
+        stompClient.setTaskScheduler(scheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10_000, 10_000});
+        return stompClient;
+    }
+    
+    private static void report(Receiver[] receivers, long sent, int roomSize, long sendElapsedNanos) {
+        long delivered = 0;
+        long frames = 0;
+        List<long[]> all = new ArrayList<>();
+        for (Receiver receiver : receivers) {
+            long[] latencies = receiver.latencies();
+            delivered += latencies.length;
+            frames += receiver.frames;
+            all.add(latencies);
+        }
+        long[] merged = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = sendElapsedNanos / 1e9;
+        long expected = sent * roomSize;
+        
+        System.out.println();
+        System.out.printf("세션 %d, 보낸 메시지 %d (%.0f msg/s)%n", receivers.length, sent, sent / seconds);
+        System.out.printf("전달 %d / 기대 %d (누락 %d), 전달 처리량 %.0f msg/s, 프레임당 평균 %.1f건%n",
+                delivered, expected, expected - delivered, delivered / seconds, frames == 0 ? 0.0 : (double) delivered / frames);
+        if (merged.length > 0) {
+            System.out.printf("전달 지연(ms): p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                    percentile(merged, 0.50), percentile(merged, 0.90), percentile(merged, 0.99),
+                    percentile(merged, 0.999), merged[merged.length - 1] / 1e6);
+        }
+    }
+    
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+    
+    /**
+     * 세션별 수신 기록 (한 세션의 프레임은 순서대로 하나씩 처리된다)
+     */
+    private static class Receiver implements StompFrameHandler {
+        
+        private long[] latencies = new long[256];
+        private int count;
+        private long frames;
+        
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return ChatMessageResponse[].class;
+        }
+        
+        @Override
+        public synchronized void handleFrame(StompHeaders headers, Object payload) {
+            long receivedAt = System.nanoTime();
+            frames++;
+            for (ChatMessageResponse message : (ChatMessageResponse[]) payload) {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = receivedAt - Long.parseLong(message.getContent());
+            }
+        }
+        
+        synchronized long[] latencies() {
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.pnu.basketball.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 시나리오별 처리량/지연 분위수 보고서와 기준(baseline) 비교.
+ * 지연은 HdrHistogram(마이크로초, 유효 숫자 3자리)에 기록하며, 보고서 JSON은 다음 실행의 기준 파일로 그대로 쓸 수 있다.
+ */
+public class LoadReport {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    
+    private final Map<String, Object> settings;
+    private final Map<String, ScenarioResult> results = new LinkedHashMap<>();
+    
+    public LoadReport(Map<String, Object> settings) {
+        this.settings = settings;
+    }
+    
+    public void add(String scenario, Histogram latencyMicros, Map<String, Long> errors, long elapsedNanos) {
+        long requests = latencyMicros.getTotalCount();
+        long failed = errors.values().stream().mapToLong(Long::longValue).sum();
+        results.put(scenario, new ScenarioResult(
+                requests,
+                failed,
+                new TreeMap<>(errors),
+                requests * 1_000_000_000.0 / Math.max(elapsedNanos, 1),
+                millis(latencyMicros.getValueAtPercentile(50)),
+                millis(latencyMicros.getValueAtPercentile(90)),
+                millis(latencyMicros.getValueAtPercentile(99)),
+                millis(latencyMicros.getValueAtPercentile(99.9)),
+                millis(latencyMicros.getMaxValue())));
+    }
+    
+    public void print() {
+        System.out.printf("%n%-16s %9s %7s %11s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((name, r) -> System.out.printf("%-16s %9d %7d %11.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, r.requests(), r.errors(), r.throughput(), r.p50(), r.p90(), r.p99(), r.p999(), r.max()));
+        results.forEach((name, r) -> {
+            if (!r.errorsByType().isEmpty()) {
+                System.out.printf("  %s 오류: %s%n", name, r.errorsByType());
+            }
+        });
+    }
+    
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(file.toFile(), Map.of("settings", settings, "results", results));
+    }
+    
+    /**
+     * 기준과 비교해 처리량이 tolerance 이상 줄거나 p99가 tolerance 이상 늘어난 시나리오를 반환한다.
+     * 실행 설정이 다르면 비교할 수 없으므로 경고만 출력하고 빈 목록을 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> compare(Path baselineFile, double tolerance) throws IOException {
+        Map<String, Object> baseline = OBJECT_MAPPER.readValue(baselineFile.toFile(), Map.class);
+        Map<String, Object> baselineSettings = (Map<String, Object>) baseline.get("settings");
+        if (!Objects.equals(OBJECT_MAPPER.convertValue(settings, Map.class), baselineSettings)) {
+            System.out.printf("%n기준 파일과 실행 설정이 달라 비교하지 않습니다.%n  기준: %s%n  현재: %s%n", baselineSettings, settings);
+            return List.of();
+        }
+        Map<String, Map<String, Object>> baselineResults = (Map<String, Map<String, Object>>) baseline.get("results");
+        
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%n기준 대비 (%s, 허용 %.0f%%)%n", baselineFile, tolerance * 100);
+        System.out.printf("%-16s %12s %12s %9s %12s %12s %9s%n",
+                "scenario", "base req/s", "req/s", "delta", "base p99", "p99", "delta");
+        results.forEach((name, current) -> {
+            Map<String, Object> base = baselineResults.get(name);
+            if (base == null) {
+                return;
+            }
+            double baseThroughput = ((Number) base.get("throughput")).doubleValue();
+            double baseP99 = ((Number) base.get("p99")).doubleValue();
+            double throughputDelta = current.throughput() / baseThroughput - 1;
+            double p99Delta = current.p99() / Math.max(baseP99, 0.001) - 1;
+            boolean regressed = throughputDelta < -tolerance || p99Delta > tolerance;
+            System.out.printf("%-16s %12.1f %12.1f %+8.1f%% %12.2f %12.2f %+8.1f%%%s%n",
+                    name, baseThroughput, current.throughput(), throughputDelta * 100,
+                    baseP99, current.p99(), p99Delta * 100, regressed ? "  <- 회귀" : "");
+            if (regressed) {
+                regressions.add(name);
+            }
+        });
+        return regressions;
+    }
+    
+    /**
+     * 설정 하나(varied)만 다른 두 실행을 나란히 비교한 Markdown 표를 만든다 (예: 플랫폼 스레드 대 가상 스레드).
+     * 회귀 판정은 하지 않으며, 나머지 설정이 다르면 경고만 출력하고 null을 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    public String sideBySide(Path otherFile, String varied) throws IOException {
+        Map<String, Object> other = OBJECT_MAPPER.readValue(otherFile.toFile(), Map.class);
+        Map<String, Object> otherSettings = new LinkedHashMap<>((Map<String, Object>) other.get("settings"));
+        Map<String, Object> currentSettings = new LinkedHashMap<>(OBJECT_MAPPER.convertValue(settings, Map.class));
+        Object otherValue = otherSettings.remove(varied);
+        Object currentValue = currentSettings.remove(varied);
+        if (!Objects.equals(otherSettings, currentSettings)) {
+            System.out.printf("%n%s 외의 실행 설정이 달라 비교하지 않습니다.%n  비교 대상: %s%n  현재: %s%n",
+                    varied, otherSettings, currentSettings);
+            return null;
+        }
+        Map<String, Map<String, Object>> otherResults = (Map<String, Map<String, Object>>) other.get("results");
+        
+        String a = varied + "=" + otherValue;
+        String b = varied + "=" + currentValue;
+        StringBuilder table = new StringBuilder()
+                .append("설정: ").append(currentSettings).append("\n\n")
+                .append("| scenario | req/s (").append(a).append(") | req/s (").append(b).append(") | delta")
+                .append(" | p50 ms | p50 ms | p99 ms (").append(a).append(") | p99 ms (").append(b).append(") | delta")
+                .append(" | p99.9 ms | p99.9 ms | errors |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+        results.forEach((name, current) -> {
+            Map<String, Object> base = otherResults.get(name);
+            if (base == null) {
+                return;
+            }
+            double baseThroughput = ((Number) base.get("throughput")).doubleValue();
+            double baseP99 = ((Number) base.get("p99")).doubleValue();
+            table.append(String.format("| %s | %.1f | %.1f | %+.1f%% | %.2f | %.2f | %.2f | %.2f | %+.1f%% | %.2f | %.2f | %s / %s |%n",
+                    name, baseThroughput, current.throughput(), (current.throughput() / baseThroughput - 1) * 100,
+                    ((Number) base.get("p50")).doubleValue(), current.p50(),
+                    baseP99, current.p99(), (current.p99() / Math.max(baseP99, 0.001) - 1) * 100,
+                    ((Number) base.get("p999")).doubleValue(), current.p999(),
+                    base.get("errors"), current.errors()));
+        });
+        return table.toString();
+    }
+    
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+    
+    public record ScenarioResult(long requests, long errors, Map<String, Long> errorsByType, double throughput,
+                                 double p50, double p90, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.pnu.basketball.loadtest;
+
+import com.pnu.basketball.domain.ParticipantAction;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.MatchParticipantEvent;
+import com.pnu.basketball.repository.MatchParticipantEventRepository;
+import com.pnu.basketball.service.match.LobbyState;
+import com.pnu.basketball.service.match.MatchEventWriter;
+import com.pnu.basketball.service.match.MatchLobby;
+import com.pnu.basketball.service.match.MatchRoster;
+import com.pnu.basketball.service.match.MatchRosterLoader;
+import com.pnu.basketball.util.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MatchLobby 초과 모집 검증: 한 경기에 수천 개 스레드가 동시에 참가/취소를 반복한다.
+ * 실제 MatchEventWriter(저장소만 메모리 대역)로 저장된 이벤트를 sequence 순서로 재생해, 어느 시점에도 정원을 넘지 않았는지와
+ * 최종 명단이 메모리 명단과 같은지 확인한다. 위반 시 종료 코드 1.
+ *
+ * ./gradlew matchLobbyContentionCheck [-Pthreads=2000 -Prounds=50 -Pcapacity=10]
+ */
+public class MatchLobbyContentionCheck {
+    
+    private static final long DRAIN_TIMEOUT_MILLIS = 10_000;
+    
+    public static void main(String[] args) throws InterruptedException {
+        int threads = Integer.parseInt(System.getProperty("threads", "2000"));
+        int rounds = Integer.parseInt(System.getProperty("rounds", "50"));
+        int capacity = Integer.parseInt(System.getProperty("capacity", "10"));
+        
+        Queue<MatchParticipantEvent> recorded = new ConcurrentLinkedQueue<>();
+        MatchParticipantEventRepository eventRepository = new MatchParticipantEventRepository(null) {
+            @Override
+            public void insertAll(List<MatchParticipantEvent> events) {
+                recorded.addAll(events);
+            }
+        };
+        TransactionTemplate inline = new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+        // 한 라운드의 이벤트(참가 + 취소 후 재참가)가 모두 들어갈 만큼 대기열을 잡는다
+        MatchEventWriter eventWriter = new MatchEventWriter(eventRepository, inline, new SimpleMeterRegistry(),
+                threads * 2, 500, 5000);
+        eventWriter.start();
+        MatchLobby lobby = new MatchLobby(
+                new MatchRosterLoader(null, null) {
+                    @Override
+                    public MatchRoster load(long matchId) {
+                        return new MatchRoster(matchId, capacity, LocalDateTime.now().plusHours(1));
+                    }
+                },
+                eventWriter,
+                new SnowflakeIdGenerator(0),
+                event -> {
+                },
+                new SimpleMeterRegistry(),
+                64,
+                Duration.ofHours(1));
+        
+        List<String> violations = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        for (int round = 1; round <= rounds; round++) {
+            long matchId = round;
+            recorded.clear();
+            AtomicInteger joins = new AtomicInteger();
+            AtomicInteger leaves = new AtomicInteger();
+            AtomicInteger fullRejections = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            
+            for (int i = 0; i < threads; i++) {
+                long userId = i + 1;
+                Thread.ofPlatform().start(() -> {
+                    try {
+                        start.await();
+                        // 3명 중 1명은 참가 직후 취소하고 다시 참가를 시도해 빈자리 경쟁을 만든다
+                        for (int attempt = 0; attempt < (userId % 3 == 0 ? 2 : 1); attempt++) {
+                            LobbyState state = lobby.join(matchId, userId);
+                            if (state.participantIds().contains(userId)) {
+                                joins.incrementAndGet();
+                                if (userId % 3 == 0 && attempt == 0) {
+                                    lobby.leave(matchId, userId);
+                                    leaves.incrementAndGet();
+                                }
+                            }
+                        }
+                    } catch (CustomException e) {
+                        if (e.getErrorCode() != ErrorCode.MATCH_FULL) {
+                            throw e;
+                        }
+                        fullRejections.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await();
+            
+            int expected = joins.get() + leaves.get();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MILLIS);
+            while (recorded.size() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            if (recorded.size() != expected) {
+                violations.add("match " + matchId + ": 저장된 이벤트 " + recorded.size() + " != 응답한 변경 " + expected);
+            }
+            violations.addAll(verify(matchId, capacity, lobby.state(matchId), new ArrayList<>(recorded)));
+            System.out.printf("round %d: joins=%d, leaves=%d, full=%d, final=%d/%d%n",
+                    round, joins.get(), leaves.get(), fullRejections.get(), lobby.state(matchId).participantCount(), capacity);
+        }
+        
+        System.out.printf("%d rounds x %d threads in %d ms%n", rounds, threads, (System.nanoTime() - startedAt) / 1_000_000);
+        eventWriter.shutdown();
+        if (!violations.isEmpty()) {
+            violations.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("OK: 정원 초과 없음");
+    }
+    
+    private static List<String> verify(long matchId, int capacity, LobbyState finalState, List<MatchParticipantEvent> events) {
+        List<String> violations = new ArrayList<>();
+        events.sort(Comparator.comparingLong(MatchParticipantEvent::sequence));
+        
+        Set<Long> replayed = new HashSet<>();
+        long expectedSequence = 1;
+        for (MatchParticipantEvent event : events) {
+            if (event.sequence() != expectedSequence++) {
+                violations.add("match " + matchId + ": sequence 누락/중복 at " + event.sequence());
+            }
+            boolean changed = event.action() == ParticipantAction.JOIN
+                    ? replayed.add(event.userId())
+                    : replayed.remove(event.userId());
+            if (!changed) {
+                violations.add("match " + matchId + ": 중복 " + event.action() + " userId=" + event.userId());
+            }
+            if (replayed.size() > capacity) {
+                violations.add("match " + matchId + ": 정원 초과 " + replayed.size() + "/" + capacity
+                        + " at sequence " + event.sequence());
+            }
+        }
+        if (!replayed.equals(new HashSet<>(finalState.participantIds()))) {
+            violations.add("match " + matchId + ": 재생 결과와 메모리 명단 불일치");
+        }
+        if (finalState.participantCount() != capacity) {
+            violations.add("match " + matchId + ": 최종 인원 " + finalState.participantCount() + " != 정원 " + capacity);
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,79 @@
+package com.pnu.basketball.loadtest;
+
+import com.pnu.basketball.loadtest.standin.LocalRedis;
+import com.pnu.basketball.util.AccessTokenRevocationList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 폐기 목록의 노드당 메모리 사용량과 스냅샷 동기화 시간 측정.
+ * 1) Redis 없이 N건을 메모리 집합에 넣고 GC 후 힙 증가량을 잰다.
+ * 2) 프로세스 내 Redis 대역에 N건을 폐기한 뒤, 새 노드가 스냅샷 전체를 적재하는 시간을 잰다.
+ *
+ * ./gradlew revocationMemoryReport [-Pentries=100000]
+ */
+public class RevocationMemoryReport {
+    
+    public static void main(String[] args) throws Exception {
+        int entries = Integer.parseInt(System.getProperty("entries", "100000"));
+        long expiresAtMillis = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        
+        // 1) 힙 사용량
+        long before = usedHeapAfterGc();
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(null, null, new SimpleMeterRegistry());
+        for (int i = 0; i < entries; i++) {
+            revocationList.add(UUID.randomUUID(), expiresAtMillis);
+        }
+        long after = usedHeapAfterGc();
+        long bytes = after - before;
+        System.out.printf("entries=%d size=%d heap=%.1fMB (%d bytes/entry)%n",
+                entries, revocationList.size(), bytes / (1024.0 * 1024.0), bytes / Math.max(1, entries));
+        
+        // 2) 스냅샷 적재 시간
+        try (LocalRedis redis = LocalRedis.start()) {
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(redis.host(), redis.port());
+            connectionFactory.afterPropertiesSet();
+            try {
+                RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+                redisTemplate.setConnectionFactory(connectionFactory);
+                redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+                redisTemplate.afterPropertiesSet();
+                
+                AccessTokenRevocationList publisher =
+                        new AccessTokenRevocationList(redisTemplate, null, new SimpleMeterRegistry());
+                long startedAt = System.nanoTime();
+                for (int i = 0; i < entries; i++) {
+                    publisher.revoke(UUID.randomUUID(), expiresAtMillis);
+                }
+                long revokeNanos = System.nanoTime() - startedAt;
+                
+                AccessTokenRevocationList joiningNode =
+                        new AccessTokenRevocationList(redisTemplate, null, new SimpleMeterRegistry());
+                startedAt = System.nanoTime();
+                joiningNode.sync();
+                long syncNanos = System.nanoTime() - startedAt;
+                
+                System.out.printf("revoke: %.1fµs/op, snapshot sync: %d entries in %dms (Redis 대역 기준, 실행 간 비교용)%n",
+                        revokeNanos / 1000.0 / entries, joiningNode.size(), TimeUnit.NANOSECONDS.toMillis(syncNanos));
+            } finally {
+                connectionFactory.destroy();
+            }
+        }
+    }
+    
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
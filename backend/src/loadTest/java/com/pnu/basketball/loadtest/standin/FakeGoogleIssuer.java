@@ -0,0 +1,129 @@
+package com.pnu.basketball.loadtest.standin;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구글 ID Token 발급자 대역.
+ * 자체 서명 X.509 인증서를 구글 v1 certs 형식({"kid": "PEM"})으로 제공하고, 같은 키로 서명한 ID Token을 만든다.
+ * 애플리케이션은 google.oauth2.certs-url만 이 서버로 바꾸면 실제 GoogleIdTokenVerifier 경로(서명/발급자/대상/만료 검증)를 그대로 탄다.
+ */
+public class FakeGoogleIssuer implements AutoCloseable {
+    
+    private static final String ISSUER = "https://accounts.google.com";
+    private static final String CERTS_PATH = "/oauth2/v1/certs";
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+    
+    private final HttpServer server;
+    private final KeyPair keyPair;
+    private final String keyId;
+    private final String clientId;
+    private final AtomicLong certsRequests = new AtomicLong();
+    
+    private FakeGoogleIssuer(HttpServer server, KeyPair keyPair, String keyId, String clientId) {
+        this.server = server;
+        this.keyPair = keyPair;
+        this.keyId = keyId;
+        this.clientId = clientId;
+    }
+    
+    public static FakeGoogleIssuer start(String clientId) throws IOException, GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        String keyId = "loadtest-" + Long.toHexString(System.nanoTime());
+        byte[] certs = ("{\"" + keyId + "\": \"" + pem(selfSignedCertificate(keyPair)).replace("\n", "\\n") + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        FakeGoogleIssuer issuer = new FakeGoogleIssuer(server, keyPair, keyId, clientId);
+        server.createContext(CERTS_PATH, exchange -> {
+            issuer.certsRequests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            // GooglePublicKeysManager는 max-age로 만료 시각을 정한다 (실제 구글과 같은 수준)
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=21600, must-revalidate, no-transform");
+            exchange.sendResponseHeaders(200, certs.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(certs);
+            }
+        });
+        server.start();
+        return issuer;
+    }
+    
+    public String certsUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + CERTS_PATH;
+    }
+    
+    /**
+     * 인증서 조회 횟수 (백그라운드 갱신이 동작하면 부하 중에는 늘지 않아야 한다)
+     */
+    public long certsRequests() {
+        return certsRequests.get();
+    }
+    
+    public String idToken(String googleId, String email, String name) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer(ISSUER)
+                .audience().add(clientId).and()
+                .subject(googleId)
+                .claim("email", email)
+                .claim("email_verified", true)
+                .claim("name", name)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(TOKEN_LIFETIME)))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+    
+    private static X509Certificate selfSignedCertificate(KeyPair keyPair) throws GeneralSecurityException {
+        X500Name subject = new X500Name("CN=loadtest-google-issuer");
+        Instant now = Instant.now();
+        try {
+            return new JcaX509CertificateConverter().getCertificate(new JcaX509v3CertificateBuilder(
+                    subject,
+                    BigInteger.valueOf(now.toEpochMilli()),
+                    Date.from(now.minus(Duration.ofDays(1))),
+                    Date.from(now.plus(Duration.ofDays(1))),
+                    subject,
+                    keyPair.getPublic())
+                    .build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())));
+        } catch (OperatorCreationException e) {
+            throw new GeneralSecurityException(e);
+        }
+    }
+    
+    private static String pem(X509Certificate certificate) throws GeneralSecurityException {
+        return "-----BEGIN CERTIFICATE-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(certificate.getEncoded())
+                + "\n-----END CERTIFICATE-----\n";
+    }
+}
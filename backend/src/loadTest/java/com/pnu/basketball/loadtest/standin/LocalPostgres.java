@@ -0,0 +1,52 @@
+package com.pnu.basketball.loadtest.standin;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 프로세스가 띄우는 임시 PostgreSQL (zonky embedded-postgres, 실제 Postgres 바이너리).
+ * 매 실행마다 빈 데이터 디렉터리에서 시작하고 docs/database/schema.sql을 적용하므로 실행 간 DB 상태가 같다.
+ */
+public class LocalPostgres implements AutoCloseable {
+    
+    private static final String DATABASE = "postgres";
+    private static final String USER = "postgres";
+    
+    private final EmbeddedPostgres postgres;
+    
+    private LocalPostgres(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+    
+    public static LocalPostgres start(Path schema) throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "200")
+                .setServerConfig("fsync", "off")  // 디스크 성능 차이가 결과에 섞이지 않도록
+                .start();
+        // pgjdbc는 $$ 인용을 이해하므로 스크립트 전체를 한 번에 실행할 수 있다
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(Files.readString(schema));
+        }
+        return new LocalPostgres(postgres);
+    }
+    
+    public String jdbcUrl() {
+        return postgres.getJdbcUrl(USER, DATABASE) + "&reWriteBatchedInserts=true";
+    }
+    
+    public String username() {
+        return USER;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.pnu.basketball.loadtest.standin;
+
+import com.github.fppt.jedismock.RedisServer;
+
+import java.io.IOException;
+
+/**
+ * 프로세스 내 Redis 호환 서버 (jedis-mock, RESP over TCP).
+ * Lettuce가 실제 소켓으로 접속하므로 파이프라인, pub/sub, Lua(EVAL), MULTI/EXEC 경로가 그대로 실행된다.
+ * 명령 처리 속도는 실제 Redis와 다르므로, 결과는 같은 하니스의 이전 실행과만 비교한다.
+ */
+public class LocalRedis implements AutoCloseable {
+    
+    private final RedisServer server;
+    
+    private LocalRedis(RedisServer server) {
+        this.server = server;
+    }
+    
+    public static LocalRedis start() throws IOException {
+        RedisServer server = RedisServer.newRedisServer();
+        server.start();
+        return new LocalRedis(server);
+    }
+    
+    public String host() {
+        return server.getHost();
+    }
+    
+    public int port() {
+        return server.getBindPort();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        server.stop();
+    }
+}
@@ -2,8 +2,10 @@ package com.pnu.basketball;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BasketballApplication {
 
     public static void main(String[] args) {
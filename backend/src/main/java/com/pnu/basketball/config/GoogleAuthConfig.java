@@ -0,0 +1,43 @@
+package com.pnu.basketball.config;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+
+@Configuration
+public class GoogleAuthConfig {
+    
+    @Value("${google.oauth2.client-id}")
+    private String googleClientId;
+    
+    // 구글 공개 인증서 엔드포인트 (테스트 시 로컬 대체 서버로 교체 가능)
+    @Value("${google.oauth2.certs-url}")
+    private String googleCertsUrl;
+    
+    @Bean
+    public HttpTransport googleHttpTransport() {
+        return new NetHttpTransport();
+    }
+    
+    @Bean
+    public GooglePublicKeysManager googlePublicKeysManager(HttpTransport googleHttpTransport) {
+        // 응답의 Cache-Control max-age 동안 공개키를 재사용하며, 갱신은 내부 lock으로 단일 요청만 수행된다
+        return new GooglePublicKeysManager.Builder(googleHttpTransport, GsonFactory.getDefaultInstance())
+                .setPublicCertsEncodedUrl(googleCertsUrl)
+                .build();
+    }
+    
+    @Bean
+    public GoogleIdTokenVerifier googleIdTokenVerifier(GooglePublicKeysManager googlePublicKeysManager) {
+        return new GoogleIdTokenVerifier.Builder(googlePublicKeysManager)
+                .setAudience(Collections.singletonList(googleClientId))
+                .build();
+    }
+}
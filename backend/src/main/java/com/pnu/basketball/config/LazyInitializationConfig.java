@@ -0,0 +1,48 @@
+package com.pnu.basketball.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * spring.main.lazy-initialization=true(prod 프로필)에서도 즉시 초기화해야 하는 빈을 지정한다.
+ * 스케줄 작업(@Scheduled는 생성된 빈에만 등록됨), 이벤트 리스너, 기동 시 Redis 구독/캐시 구축(@PostConstruct)을 하는 빈이 해당된다.
+ */
+@Configuration
+public class LazyInitializationConfig {
+    
+    private static final List<Class<? extends Annotation>> EAGER_MARKERS = List.of(
+            Scheduled.class,
+            EventListener.class,
+            TransactionalEventListener.class,
+            PostConstruct.class
+    );
+    
+    // BeanFactoryPostProcessor 단계에서 조회되므로 static으로 등록한다
+    @Bean
+    static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && beanType.getName().startsWith("com.pnu.basketball.") && hasEagerMarker(beanType);
+    }
+    
+    private static boolean hasEagerMarker(Class<?> beanType) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType, ReflectionUtils.USER_DECLARED_METHODS)) {
+            for (Class<? extends Annotation> marker : EAGER_MARKERS) {
+                if (AnnotatedElementUtils.hasAnnotation(method, marker)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.pnu.basketball.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * 네이티브 이미지(./gradlew nativeCompile)용 리플렉션 힌트.
+ * jjwt는 구현 클래스(jjwt-impl, runtimeOnly)를 이름으로 로드하므로 직접 등록한다.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageHints.JjwtHints.class)
+public class NativeImageHints {
+    
+    static class JjwtHints implements RuntimeHintsRegistrar {
+        
+        private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardCurves",
+                "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+                "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+                "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+                "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+                "io.jsonwebtoken.impl.security.JwksBridge",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        );
+        
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String className : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.pnu.basketball.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인증 API 경로별 토큰 버킷 설정 (rate-limit.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    
+    private boolean enabled = true;
+    
+    // Redis 응답이 이 시간을 넘거나 실패하면 fallback-duration 동안 로컬 버킷만 사용
+    private Duration redisSlowThreshold = Duration.ofMillis(50);
+    private Duration fallbackDuration = Duration.ofSeconds(10);
+    
+    private List<Route> routes = new ArrayList<>();
+    
+    @Getter
+    @Setter
+    public static class Route {
+        private String method = "POST";
+        private String path;
+        private Bucket perIp;
+        private Bucket perAccount;
+        // 계정 식별 값 위치: body:{field} 또는 param:{name}
+        private String accountKey;
+    }
+    
+    @Getter
+    @Setter
+    public static class Bucket {
+        private long capacity;
+        private double refillPerSecond;
+    }
+}
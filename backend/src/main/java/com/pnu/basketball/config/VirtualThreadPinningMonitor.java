@@ -0,0 +1,101 @@
+package com.pnu.basketball.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 모드에서 캐리어 스레드 피닝(synchronized 블록 내 블로킹 등)을 JFR 이벤트로 감지하여 보고한다.
+ * 피닝 지점(JDK 외부의 첫 프레임)별로 virtual_threads.pinned 타이머를 기록하고, 지점마다 최초 1회 스택을 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+    
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    
+    @Value("${virtual-threads.pinning-threshold:20}")
+    private long pinningThresholdMillis;
+    
+    private RecordingStream recordingStream;
+    
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(pinningThresholdMillis))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        log.info("가상 스레드 피닝 모니터 시작: threshold={}ms", pinningThresholdMillis);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+    
+    private void report(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = pinnedSite(stackTrace);
+        
+        Timer.builder("virtual_threads.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        
+        if (reportedSites.add(site)) {
+            log.warn("가상 스레드 피닝 감지: site={}, duration={}ms\n{}",
+                    site, event.getDuration().toMillis(), format(stackTrace));
+        }
+    }
+    
+    private static String pinnedSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "jdk";
+    }
+    
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.pnu.basketball.config;
+
+import com.pnu.basketball.config.websocket.JwtHandshakeInterceptor;
+import com.pnu.basketball.config.websocket.StompDestinationInterceptor;
+import com.pnu.basketball.config.websocket.StompTokenExpiryInterceptor;
+import com.pnu.basketball.config.websocket.UserIdHandshakeHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP over WebSocket 설정 (엔드포인트 /ws).
+ * 느린 클라이언트가 브로커/전송 스레드를 붙잡지 않도록 세션별 전송 버퍼와 전송 시간에 한도를 두며,
+ * 한도를 넘은 세션은 종료된다 (클라이언트가 재연결).
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final StompDestinationInterceptor stompDestinationInterceptor;
+    private final StompTokenExpiryInterceptor stompTokenExpiryInterceptor;
+    private final String[] allowedOrigins;
+    private final long heartbeatMillis;
+    private final int sendBufferSizeLimit;
+    private final int sendTimeLimitMillis;
+    private final int messageSizeLimit;
+    
+    private TaskScheduler messageBrokerTaskScheduler;
+    
+    public WebSocketConfig(JwtHandshakeInterceptor jwtHandshakeInterceptor,
+                           StompDestinationInterceptor stompDestinationInterceptor,
+                           StompTokenExpiryInterceptor stompTokenExpiryInterceptor,
+                           @Value("${websocket.allowed-origins}") String[] allowedOrigins,
+                           @Value("${websocket.heartbeat}") long heartbeatMillis,
+                           @Value("${websocket.send-buffer-size-limit}") int sendBufferSizeLimit,
+                           @Value("${websocket.send-time-limit}") int sendTimeLimitMillis,
+                           @Value("${websocket.message-size-limit}") int messageSizeLimit) {
+        this.jwtHandshakeInterceptor = jwtHandshakeInterceptor;
+        this.stompDestinationInterceptor = stompDestinationInterceptor;
+        this.stompTokenExpiryInterceptor = stompTokenExpiryInterceptor;
+        this.allowedOrigins = allowedOrigins;
+        this.heartbeatMillis = heartbeatMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.messageSizeLimit = messageSizeLimit;
+    }
+    
+    // 브로커 하트비트용 스케줄러 (이 설정이 만드는 빈이므로 지연 주입)
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+    
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(allowedOrigins)
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setHandshakeHandler(new UserIdHandshakeHandler());
+    }
+    
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+    
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMillis)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+    
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 토큰 확인을 먼저 해서 만료/폐기된 세션은 목적지 검사(참가자 조회)까지 가지 않는다
+        registration.interceptors(stompTokenExpiryInterceptor, stompDestinationInterceptor);
+    }
+}
@@ -0,0 +1,65 @@
+package com.pnu.basketball.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource.routing.enabled=true일 때 Primary 풀과 복제본 풀을 만들고, 애플리케이션 DataSource를 라우팅 프록시로 바꾼다.
+ * 풀마다 HikariCP 메트릭이 pool 태그로 노출된다 (hikaricp.connections.acquire = 커넥션 대기 시간).
+ * AOT 빌드(processAot)에서는 이 조건이 빌드 시점에 결정되므로, 라우팅을 쓰려면 빌드 시에도 켜야 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceRoutingProperties properties,
+                                                                 ReadYourWritesWindow readYourWritesWindow,
+                                                                 MeterRegistry meterRegistry) {
+        if (properties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("datasource.routing.enabled=true이면 datasource.routing.replicas가 필요합니다.");
+        }
+        
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            HikariConfig config = properties.getReplicas().get(i);
+            if (config.getPoolName() == null) {
+                config.setPoolName("replica-" + i);
+            }
+            config.setReadOnly(true);
+            config.setMetricRegistry(meterRegistry);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, readYourWritesWindow, meterRegistry);
+    }
+    
+    // 트랜잭션 시작 시에는 커넥션을 얻지 않고, 첫 SQL 실행 시점(읽기 전용 여부가 정해진 뒤)에 라우팅한다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
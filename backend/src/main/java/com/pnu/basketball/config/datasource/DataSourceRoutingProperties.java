@@ -0,0 +1,31 @@
+package com.pnu.basketball.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 (datasource.routing.*).
+ * Primary 풀은 spring.datasource / spring.datasource.hikari를 그대로 사용한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+    
+    private boolean enabled = false;
+    
+    // 사용자가 쓰기를 커밋한 뒤 이 시간 동안은 그 사용자의 읽기도 Primary로 보낸다 (복제 지연 대비)
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    private int stickyMaxUsers = 100_000;
+    
+    // 복제본별 HikariCP 설정 (jdbc-url, username, password, maximum-pool-size, pool-name 등)
+    private List<HikariConfig> replicas = new ArrayList<>();
+}
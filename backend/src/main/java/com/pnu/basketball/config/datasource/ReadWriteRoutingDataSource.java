@@ -0,0 +1,103 @@
+package com.pnu.basketball.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본(라운드 로빈)으로, 그 외(읽기-쓰기 트랜잭션, 트랜잭션 없는 JDBC)는 Primary로 보낸다.
+ * 트랜잭션 속성은 커넥션을 실제로 얻는 시점에 확인하므로 LazyConnectionDataSourceProxy 뒤에서 사용해야 한다.
+ * 인증된 사용자의 읽기-쓰기 트랜잭션이 커밋되면 sticky-window 동안 그 사용자의 읽기도 Primary로 보낸다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    
+    private static final String PRIMARY = "primary";
+    private static final String METRIC_NAME = "datasource.routing";
+    
+    private final List<String> replicaKeys;
+    private final List<HikariDataSource> replicas;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    
+    private final Counter readWriteCounter;
+    private final Counter readOnlyCounter;
+    private final Counter stickyCounter;
+    
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      List<HikariDataSource> replicas,
+                                      ReadYourWritesWindow readYourWritesWindow,
+                                      MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.readYourWritesWindow = readYourWritesWindow;
+        
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicaKeys = replicas.stream().map(HikariDataSource::getPoolName).toList();
+        for (HikariDataSource replica : replicas) {
+            targets.put(replica.getPoolName(), replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        
+        this.readWriteCounter = routeCounter(meterRegistry, PRIMARY, "read_write");
+        this.readOnlyCounter = routeCounter(meterRegistry, "replica", "read_only");
+        this.stickyCounter = routeCounter(meterRegistry, PRIMARY, "sticky");
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readWriteCounter.increment();
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesWindow.markWritten(userId);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        
+        if (readYourWritesWindow.isSticky(userId)) {
+            stickyCounter.increment();
+            return PRIMARY;
+        }
+        readOnlyCounter.increment();
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+    
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof Long userId ? userId : null;
+    }
+    
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder(METRIC_NAME)
+                .description("커넥션 획득 시 라우팅 결과")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+    
+    // Primary 풀은 별도 빈으로 종료된다
+    @Override
+    public void destroy() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
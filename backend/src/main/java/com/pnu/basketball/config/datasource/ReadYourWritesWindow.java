@@ -0,0 +1,37 @@
+package com.pnu.basketball.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근에 쓰기를 한 사용자 목록 (노드 로컬). 이 목록에 있는 사용자의 읽기 전용 트랜잭션은 복제본 대신 Primary로 보낸다.
+ * 라우팅이 꺼져 있으면 아무것도 기록하지 않는다.
+ */
+@Component
+public class ReadYourWritesWindow {
+    
+    private final boolean enabled;
+    private final Cache<Long, Boolean> recentWriters;
+    
+    public ReadYourWritesWindow(DataSourceRoutingProperties properties) {
+        this.enabled = properties.isEnabled() && !properties.getStickyWindow().isZero();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getStickyWindow())
+                .maximumSize(properties.getStickyMaxUsers())
+                .build();
+    }
+    
+    /**
+     * 쓰기가 커밋된 뒤 호출한다. 가입처럼 인증 전 요청에서 사용자가 생긴 경우에는 서비스가 직접 호출한다.
+     */
+    public void markWritten(Long userId) {
+        if (enabled && userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+    
+    public boolean isSticky(Long userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+}
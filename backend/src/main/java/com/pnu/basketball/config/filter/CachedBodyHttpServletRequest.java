@@ -0,0 +1,86 @@
+package com.pnu.basketball.config.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 필터에서 읽은 요청 본문을 컨트롤러가 다시 읽을 수 있도록 보관하는 래퍼
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+    
+    private final byte[] body;
+    
+    private CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+        super(request);
+        this.body = body;
+    }
+    
+    /**
+     * Content-Length와 관계없이(chunked 포함) 본문을 최대 maxBytes까지 읽는다.
+     *
+     * @return 본문이 maxBytes보다 크면 null
+     */
+    static CachedBodyHttpServletRequest read(HttpServletRequest request, int maxBytes) throws IOException {
+        byte[] body = request.getInputStream().readNBytes(maxBytes + 1);
+        return body.length > maxBytes ? null : new CachedBodyHttpServletRequest(request, body);
+    }
+    
+    byte[] getBody() {
+        return body;
+    }
+    
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream input = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+            
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+            
+            // 본문이 이미 메모리에 있으므로 바로 읽기 가능/완료를 알린다
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+            
+            @Override
+            public int read() {
+                return input.read();
+            }
+            
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return input.read(b, off, len);
+            }
+        };
+    }
+    
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+    }
+}
@@ -1,14 +1,15 @@
 package com.pnu.basketball.config.filter;
 
-import com.pnu.basketball.util.JwtUtil;
+import com.pnu.basketball.util.AccessTokenVerifier;
+import com.pnu.basketball.util.JwtPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -16,17 +17,34 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
-    private final JwtUtil jwtUtil;
+    private final AccessTokenVerifier accessTokenVerifier;
     
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    // SecurityConfig에서 permitAll인 actuator 경로 (그 외 actuator 경로는 토큰 검증 후 ADMIN만 허용)
+    private static final List<String> PUBLIC_ACTUATOR_PATHS = List.of("/actuator/health", "/actuator/prometheus");
+    
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<SimpleGrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+    
+    @Value("${admin.user-ids:}")
+    private Set<Long> adminUserIds = Set.of();
+    
+    // 스크레이프/헬스 체크 요청은 토큰 검증 없이 통과
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return PUBLIC_ACTUATOR_PATHS.stream().anyMatch(path -> uri.equals(path) || uri.startsWith(path + "/"));
+    }
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -34,19 +52,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String token = resolveToken(request);
         
-        if (token != null && jwtUtil.validateToken(token)) {
-            try {
-                Long userId = jwtUtil.extractUserId(token);
-                
-                Authentication authentication = new UsernamePasswordAuthenticationToken(
-                        userId,
+        if (token != null) {
+            JwtPrincipal principal = accessTokenVerifier.verify(token);
+            
+            if (principal != null) {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal.userId(),
                         null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                        adminUserIds.contains(principal.userId()) ? ADMIN_AUTHORITIES : USER_AUTHORITIES
                 );
+                // 로그아웃 시 현재 Access Token(jti/exp)을 폐기할 수 있도록 보관
+                authentication.setDetails(principal);
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-            } catch (Exception e) {
-                log.error("JWT 토큰 처리 실패: ", e);
             }
         }
         
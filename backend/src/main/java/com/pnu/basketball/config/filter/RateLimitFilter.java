@@ -0,0 +1,159 @@
+package com.pnu.basketball.config.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.config.RateLimitProperties;
+import com.pnu.basketball.config.RateLimitProperties.Route;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.service.ratelimit.RateLimiter;
+import com.pnu.basketball.service.ratelimit.RateLimiter.Decision;
+import com.pnu.basketball.service.ratelimit.RateLimiter.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 인증 API에 IP/계정별 토큰 버킷을 적용하는 필터 (rate-limit.routes에 등록된 경로만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private static final String BODY_KEY_PREFIX = "body:";
+    private static final String PARAM_KEY_PREFIX = "param:";
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+    
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<String, Route> routes = new HashMap<>();
+    // 디코딩/정규화된 경로로 찾는다 (/api/auth/%6Cogin, /api/auth//login 등도 같은 핸들러로 전달되므로)
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    
+    @PostConstruct
+    void init() {
+        for (Route route : properties.getRoutes()) {
+            routes.put(routeKey(route.getMethod(), route.getPath()), route);
+        }
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || findRoute(request) == null;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        Route route = findRoute(request);
+        HttpServletRequest requestToUse = request;
+        List<Limit> limits = new ArrayList<>(2);
+        
+        if (route.getPerIp() != null) {
+            limits.add(new Limit("ip", route.getPath() + ":ip:" + request.getRemoteAddr(), route.getPerIp()));
+        }
+        
+        if (route.getPerAccount() != null && StringUtils.hasText(route.getAccountKey())) {
+            String accountKey = route.getAccountKey();
+            String account = null;
+            if (accountKey.startsWith(BODY_KEY_PREFIX)) {
+                // 본문 크기를 알 수 없어도(chunked) 읽어서 계정 버킷을 적용하고, 한도를 넘는 본문은 거절한다
+                CachedBodyHttpServletRequest cached = request.getContentLengthLong() > MAX_BODY_BYTES
+                        ? null : CachedBodyHttpServletRequest.read(request, MAX_BODY_BYTES);
+                if (cached == null) {
+                    writeError(response, ErrorCode.PAYLOAD_TOO_LARGE);
+                    return;
+                }
+                requestToUse = cached;
+                account = readBodyField(cached.getBody(), accountKey.substring(BODY_KEY_PREFIX.length()));
+            } else if (accountKey.startsWith(PARAM_KEY_PREFIX)) {
+                account = request.getParameter(accountKey.substring(PARAM_KEY_PREFIX.length()));
+            }
+            if (StringUtils.hasText(account)) {
+                limits.add(new Limit("account", route.getPath() + ":account:" + account.trim().toLowerCase(Locale.ROOT),
+                        route.getPerAccount()));
+            }
+        }
+        
+        if (!limits.isEmpty()) {
+            Decision decision = rateLimiter.tryAcquire(limits);
+            if (!decision.allowed()) {
+                rejected(route, decision.rejectedScope()).increment();
+                log.debug("요청 제한: path={}, scope={}, ip={}", route.getPath(), decision.rejectedScope(), request.getRemoteAddr());
+                writeTooManyRequests(response, decision.retryAfterMillis());
+                return;
+            }
+        }
+        
+        filterChain.doFilter(requestToUse, response);
+    }
+    
+    private Route findRoute(HttpServletRequest request) {
+        return routes.get(routeKey(request.getMethod(), urlPathHelper.getPathWithinApplication(request)));
+    }
+    
+    private static String routeKey(String method, String path) {
+        return method.toUpperCase(Locale.ROOT) + " " + path;
+    }
+    
+    private String readBodyField(byte[] body, String field) {
+        try {
+            JsonNode value = objectMapper.readTree(body).get(field);
+            return value != null && value.isTextual() ? value.asText() : null;
+        } catch (IOException e) {
+            // 잘못된 본문은 컨트롤러의 검증에 맡기고 IP 버킷만 적용
+            return null;
+        }
+    }
+    
+    private Counter rejected(Route route, String scope) {
+        return Counter.builder("rate_limit.rejected")
+                .description("레이트 리미터에 의해 거절된 요청 수")
+                .tag("route", route.getPath())
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+    
+    private void writeTooManyRequests(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        writeError(response, ErrorCode.TOO_MANY_REQUESTS);
+    }
+    
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        Map<String, Object> error = new HashMap<>();
+        error.put("code", errorCode.name());
+        error.put("message", errorCode.getMessage());
+        
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", false);
+        body.put("error", error);
+        
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
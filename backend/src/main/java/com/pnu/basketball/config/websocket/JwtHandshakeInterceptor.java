@@ -0,0 +1,68 @@
+package com.pnu.basketball.config.websocket;
+
+import com.pnu.basketball.util.AccessTokenVerifier;
+import com.pnu.basketball.util.JwtPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+
+/**
+ * WebSocket 핸드셰이크 시 Access Token을 검증한다.
+ * 브라우저는 업그레이드 요청에 헤더를 넣을 수 없으므로 Authorization 헤더가 없으면 access_token 쿼리 파라미터를 사용한다.
+ * 검증된 사용자 ID는 세션 속성에 저장되어 UserIdHandshakeHandler가 STOMP Principal로 사용한다.
+ * 토큰 만료 시각과 jti도 세션 속성에 남겨, 연결 후에는 StompTokenExpiryInterceptor가 프레임마다 만료/폐기를 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+    
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String TOKEN_ID_ATTRIBUTE = "tokenId";
+    public static final String TOKEN_EXPIRES_AT_ATTRIBUTE = "tokenExpiresAt";
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String TOKEN_PARAMETER = "access_token";
+    
+    private final AccessTokenVerifier accessTokenVerifier;
+    
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = resolveToken(request);
+        JwtPrincipal principal = token != null ? accessTokenVerifier.verify(token) : null;
+        if (principal == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(USER_ID_ATTRIBUTE, principal.userId());
+        attributes.put(TOKEN_ID_ATTRIBUTE, principal.tokenId());
+        attributes.put(TOKEN_EXPIRES_AT_ATTRIBUTE, principal.expiresAtMillis());
+        return true;
+    }
+    
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+    
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build()
+                .getQueryParams().getFirst(TOKEN_PARAMETER);
+        return StringUtils.hasText(token) ? token : null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.pnu.basketball.config.websocket;
+
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.service.chat.ChatRoomBroadcaster;
+import com.pnu.basketball.service.match.MatchLobby;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 클라이언트가 보내는 SEND/SUBSCRIBE 목적지를 허용 목록으로 검사한다 (목록에 없으면 거절).
+ * - SEND: /app/** 만 허용한다. 브로커 목적지(/topic, /queue, /user)로 직접 보내면 컨트롤러의 참가자 확인과 저장을 건너뛴다.
+ * - SUBSCRIBE: 패턴 문자(*, ?, {, })가 있는 목적지는 거절한다 (simple broker는 Ant 패턴 구독을 허용한다).
+ *   /topic은 채팅방(/topic/matches/{matchId}/chat)만 허용하며 해당 경기 참가자여야 한다.
+ *   /user는 알려진 개인 큐만 허용하고, 세션별로 변환된 /queue 목적지를 직접 구독하는 것은 막는다.
+ * 거절하면 클라이언트에 STOMP ERROR 프레임이 전달된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompDestinationInterceptor implements ChannelInterceptor {
+    
+    private static final String APPLICATION_PREFIX = "/app/";
+    private static final Set<String> USER_QUEUES = Set.of("/user/queue/errors", "/user/queue/viewport");
+    
+    private final MatchLobby matchLobby;
+    
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        
+        String destination = accessor.getDestination();
+        switch (accessor.getCommand()) {
+            case SEND -> {
+                if (destination == null || !destination.startsWith(APPLICATION_PREFIX)) {
+                    throw new CustomException(ErrorCode.STOMP_DESTINATION_FORBIDDEN);
+                }
+            }
+            case SUBSCRIBE -> checkSubscription(destination, accessor);
+            default -> {
+            }
+        }
+        return message;
+    }
+    
+    private void checkSubscription(String destination, StompHeaderAccessor accessor) {
+        if (destination == null || containsPattern(destination)) {
+            throw new CustomException(ErrorCode.STOMP_DESTINATION_FORBIDDEN);
+        }
+        if (USER_QUEUES.contains(destination)) {
+            return;
+        }
+        
+        Long matchId = ChatRoomBroadcaster.parseRoomDestination(destination);
+        if (matchId == null) {
+            throw new CustomException(ErrorCode.STOMP_DESTINATION_FORBIDDEN);
+        }
+        if (!(accessor.getUser() instanceof Authentication authentication)
+                || !matchLobby.isParticipant(matchId, (Long) authentication.getPrincipal())) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_FORBIDDEN);
+        }
+    }
+    
+    private static boolean containsPattern(String destination) {
+        for (int i = 0; i < destination.length(); i++) {
+            char c = destination.charAt(i);
+            if (c == '*' || c == '?' || c == '{' || c == '}') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.pnu.basketball.config.websocket;
+
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.util.AccessTokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 핸드셰이크 때 검증한 Access Token이 연결 중에도 유효한지 클라이언트 프레임마다 확인한다.
+ * 만료되었거나 로그아웃으로 폐기된 토큰이면 STOMP ERROR 프레임을 보내고 세션을 닫으며, 클라이언트는 새 토큰으로 다시 연결한다.
+ * 클라이언트 하트비트도 검사하므로, 구독만 하고 있는 세션도 하트비트 주기(websocket.heartbeat) 안에 닫힌다.
+ * 폐기 여부는 메모리의 폐기 목록만 보므로 프레임마다 확인해도 네트워크 왕복이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompTokenExpiryInterceptor implements ChannelInterceptor {
+    
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.DISCONNECT) {
+            return message;
+        }
+        Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders());
+        if (attributes == null) {
+            return message;
+        }
+        
+        Long expiresAt = (Long) attributes.get(JwtHandshakeInterceptor.TOKEN_EXPIRES_AT_ATTRIBUTE);
+        if (expiresAt == null || System.currentTimeMillis() >= expiresAt) {
+            throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+        }
+        if (accessTokenRevocationList.isRevoked((UUID) attributes.get(JwtHandshakeInterceptor.TOKEN_ID_ATTRIBUTE))) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return message;
+    }
+}
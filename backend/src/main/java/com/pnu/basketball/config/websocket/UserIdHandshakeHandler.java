@@ -0,0 +1,28 @@
+package com.pnu.basketball.config.websocket;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 핸드셰이크에서 검증된 사용자 ID를 세션 Principal로 지정한다.
+ * HTTP 요청과 같은 형태(principal = Long userId)이므로 @AuthenticationPrincipal과 같은 값을 얻을 수 있고,
+ * Principal 이름(userId 문자열)은 /user 목적지 라우팅에 사용된다.
+ */
+public class UserIdHandshakeHandler extends DefaultHandshakeHandler {
+    
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+                                      Map<String, Object> attributes) {
+        Long userId = (Long) attributes.get(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE);
+        return new UsernamePasswordAuthenticationToken(userId, null, USER_AUTHORITIES);
+    }
+}
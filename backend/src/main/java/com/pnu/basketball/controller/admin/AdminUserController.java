@@ -0,0 +1,33 @@
+package com.pnu.basketball.controller.admin;
+
+import com.pnu.basketball.dto.response.ApiResponse;
+import com.pnu.basketball.dto.response.UserImportResponse;
+import com.pnu.basketball.service.user.RosterFormat;
+import com.pnu.basketball.service.user.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminUserController {
+    
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    
+    private final UserImportService userImportService;
+    
+    // 요청 본문을 버퍼링하지 않고 스트리밍으로 읽는다
+    @PostMapping(value = "/users/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<UserImportResponse>> importUsers(HttpServletRequest request) throws IOException {
+        RosterFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_JSON)
+                ? RosterFormat.JSON
+                : RosterFormat.CSV;
+        UserImportResponse response = userImportService.importUsers(request.getInputStream(), format);
+        return ResponseEntity.ok(ApiResponse.success(response, "명단 일괄 가입이 완료되었습니다."));
+    }
+}
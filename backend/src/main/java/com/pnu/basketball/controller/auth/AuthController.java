@@ -7,10 +7,12 @@ import com.pnu.basketball.dto.response.UserResponse;
 import com.pnu.basketball.service.auth.AuthService;
 import com.pnu.basketball.service.auth.GoogleAuthService;
 import com.pnu.basketball.service.user.UserService;
+import com.pnu.basketball.util.JwtPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -54,8 +56,9 @@ public class AuthController {
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
             @AuthenticationPrincipal Long userId,
+            Authentication authentication,
             @Valid @RequestBody RefreshTokenRequest request) {
-        authService.logout(userId, request.getRefreshToken());
+        authService.logout(userId, request.getRefreshToken(), (JwtPrincipal) authentication.getDetails());
         return ResponseEntity.ok(ApiResponse.success(null, "로그아웃되었습니다."));
     }
     
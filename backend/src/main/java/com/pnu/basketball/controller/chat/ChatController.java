@@ -0,0 +1,35 @@
+package com.pnu.basketball.controller.chat;
+
+import com.pnu.basketball.dto.request.ChatMessageRequest;
+import com.pnu.basketball.service.chat.ChatService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * STOMP 채팅: 클라이언트는 /app/matches/{matchId}/chat 으로 보내고 /topic/matches/{matchId}/chat 을 구독한다.
+ * 오류는 보낸 세션의 /user/queue/errors 로 전달된다 (StompExceptionHandler).
+ */
+@Controller
+@RequiredArgsConstructor
+public class ChatController {
+    
+    private final ChatService chatService;
+    
+    @MessageMapping("/matches/{matchId}/chat")
+    public void send(@DestinationVariable Long matchId,
+                     @Valid @Payload ChatMessageRequest request,
+                     Principal principal) {
+        chatService.send(matchId, userId(principal), request.getContent());
+    }
+    
+    private static Long userId(Principal principal) {
+        return (Long) ((Authentication) principal).getPrincipal();
+    }
+}
@@ -0,0 +1,34 @@
+package com.pnu.basketball.controller.chat;
+
+import com.pnu.basketball.dto.response.ApiResponse;
+import com.pnu.basketball.dto.response.ChatHistoryResponse;
+import com.pnu.basketball.service.chat.ChatService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/matches/{matchId}/chat")
+@RequiredArgsConstructor
+public class ChatHistoryController {
+    
+    private final ChatService chatService;
+    
+    /**
+     * 최신순 채팅 기록. 다음 페이지는 응답의 nextCursor를 before로 넘겨 조회한다 (OFFSET 없이 커서 기반).
+     */
+    @GetMapping("/messages")
+    public ResponseEntity<ApiResponse<ChatHistoryResponse>> getHistory(
+            @PathVariable Long matchId,
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int size) {
+        ChatHistoryResponse response = chatService.getHistory(matchId, userId, before, size);
+        return ResponseEntity.ok(ApiResponse.success(response, "채팅 기록 조회 성공"));
+    }
+}
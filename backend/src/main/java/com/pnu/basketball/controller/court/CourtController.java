@@ -0,0 +1,55 @@
+package com.pnu.basketball.controller.court;
+
+import com.pnu.basketball.dto.request.CourtRequest;
+import com.pnu.basketball.dto.response.ApiResponse;
+import com.pnu.basketball.dto.response.CourtResponse;
+import com.pnu.basketball.service.court.CourtService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/courts")
+@RequiredArgsConstructor
+public class CourtController {
+    
+    private final CourtService courtService;
+    
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<CourtResponse>>> findNearbyCourts(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3000") int radius,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<CourtResponse> response = courtService.findNearbyCourts(latitude, longitude, radius, limit);
+        return ResponseEntity.ok(ApiResponse.success(response, "주변 농구장 조회 성공"));
+    }
+    
+    @GetMapping("/{courtId}")
+    public ResponseEntity<ApiResponse<CourtResponse>> getCourt(@PathVariable Long courtId) {
+        CourtResponse response = courtService.getCourt(courtId);
+        return ResponseEntity.ok(ApiResponse.success(response, "농구장 조회 성공"));
+    }
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<CourtResponse>> createCourt(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody CourtRequest request) {
+        CourtResponse response = courtService.createCourt(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "농구장이 등록되었습니다."));
+    }
+    
+    @PutMapping("/{courtId}")
+    public ResponseEntity<ApiResponse<CourtResponse>> updateCourt(
+            @PathVariable Long courtId,
+            @Valid @RequestBody CourtRequest request) {
+        CourtResponse response = courtService.updateCourt(courtId, request);
+        return ResponseEntity.ok(ApiResponse.success(response, "농구장 정보가 수정되었습니다."));
+    }
+}
@@ -0,0 +1,51 @@
+package com.pnu.basketball.controller.court;
+
+import com.pnu.basketball.dto.response.ApiResponse;
+import com.pnu.basketball.dto.response.CourtPresenceResponse;
+import com.pnu.basketball.service.presence.PresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebSocket을 쓰지 않는 클라이언트용 체크인. 창(presence.window-minutes) 안에 다시 POST 해야 접속 상태가 유지된다.
+ */
+@RestController
+@RequestMapping("/api/courts")
+@RequiredArgsConstructor
+public class CourtPresenceController {
+    
+    private final PresenceService presenceService;
+    
+    @PostMapping("/{courtId}/presence")
+    public ResponseEntity<ApiResponse<Void>> checkIn(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long courtId) {
+        presenceService.checkIn(courtId, userId);
+        return ResponseEntity.ok(ApiResponse.success(null, "체크인되었습니다."));
+    }
+    
+    @DeleteMapping("/{courtId}/presence")
+    public ResponseEntity<ApiResponse<Void>> checkOut(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long courtId) {
+        presenceService.checkOut(courtId, userId);
+        return ResponseEntity.ok(ApiResponse.success(null, "체크아웃되었습니다."));
+    }
+    
+    @GetMapping("/{courtId}/presence")
+    public ResponseEntity<ApiResponse<CourtPresenceResponse>> getPresence(@PathVariable Long courtId) {
+        CourtPresenceResponse response = presenceService.getPresence(courtId);
+        return ResponseEntity.ok(ApiResponse.success(response, "접속 현황 조회 성공"));
+    }
+    
+    @GetMapping("/presence/counts")
+    public ResponseEntity<ApiResponse<Map<Long, Integer>>> getOnlineCounts(@RequestParam List<Long> courtIds) {
+        Map<Long, Integer> response = presenceService.getOnlineCounts(courtIds);
+        return ResponseEntity.ok(ApiResponse.success(response, "접속 인원 조회 성공"));
+    }
+}
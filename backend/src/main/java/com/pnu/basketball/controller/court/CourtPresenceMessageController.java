@@ -0,0 +1,39 @@
+package com.pnu.basketball.controller.court;
+
+import com.pnu.basketball.service.presence.PresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * STOMP 체크인: /app/courts/{courtId}/presence 한 번이면 세션이 열려 있는 동안 서버가 하트비트를 대신 갱신한다.
+ * 세션당 한 농구장이며, 다른 농구장에 체크인하면 이전 농구장에서는 빠진다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class CourtPresenceMessageController {
+    
+    private final PresenceService presenceService;
+    
+    @MessageMapping("/courts/{courtId}/presence")
+    public void checkIn(@DestinationVariable Long courtId,
+                        @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                        Principal principal) {
+        presenceService.checkInSession(sessionId, courtId, userId(principal));
+    }
+    
+    @MessageMapping("/courts/presence/check-out")
+    public void checkOut(@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        presenceService.checkOutSession(sessionId);
+    }
+    
+    private static Long userId(Principal principal) {
+        return (Long) ((Authentication) principal).getPrincipal();
+    }
+}
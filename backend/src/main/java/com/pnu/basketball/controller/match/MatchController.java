@@ -0,0 +1,60 @@
+package com.pnu.basketball.controller.match;
+
+import com.pnu.basketball.dto.request.MatchRequest;
+import com.pnu.basketball.dto.response.ApiResponse;
+import com.pnu.basketball.dto.response.MatchParticipantsResponse;
+import com.pnu.basketball.dto.response.MatchResponse;
+import com.pnu.basketball.service.match.MatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/matches")
+@RequiredArgsConstructor
+public class MatchController {
+    
+    private final MatchService matchService;
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<MatchResponse>> createMatch(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody MatchRequest request) {
+        MatchResponse response = matchService.createMatch(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "경기가 생성되었습니다."));
+    }
+    
+    @GetMapping("/{matchId}")
+    public ResponseEntity<ApiResponse<MatchResponse>> getMatch(@PathVariable Long matchId) {
+        MatchResponse response = matchService.getMatch(matchId);
+        return ResponseEntity.ok(ApiResponse.success(response, "경기 조회 성공"));
+    }
+    
+    @DeleteMapping("/{matchId}")
+    public ResponseEntity<ApiResponse<MatchResponse>> cancelMatch(
+            @PathVariable Long matchId,
+            @AuthenticationPrincipal Long userId) {
+        MatchResponse response = matchService.cancelMatch(matchId, userId);
+        return ResponseEntity.ok(ApiResponse.success(response, "경기가 취소되었습니다."));
+    }
+    
+    @PostMapping("/{matchId}/participants")
+    public ResponseEntity<ApiResponse<MatchParticipantsResponse>> join(
+            @PathVariable Long matchId,
+            @AuthenticationPrincipal Long userId) {
+        MatchParticipantsResponse response = matchService.join(matchId, userId);
+        return ResponseEntity.ok(ApiResponse.success(response, "경기에 참가했습니다."));
+    }
+    
+    @DeleteMapping("/{matchId}/participants")
+    public ResponseEntity<ApiResponse<MatchParticipantsResponse>> leave(
+            @PathVariable Long matchId,
+            @AuthenticationPrincipal Long userId) {
+        MatchParticipantsResponse response = matchService.leave(matchId, userId);
+        return ResponseEntity.ok(ApiResponse.success(response, "경기 참가를 취소했습니다."));
+    }
+}
@@ -0,0 +1,40 @@
+package com.pnu.basketball.controller.match;
+
+import com.pnu.basketball.dto.request.ViewportRequest;
+import com.pnu.basketball.dto.response.ViewportUpdateResponse;
+import com.pnu.basketball.service.viewport.ViewportService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * 지도 화면 구독: 클라이언트는 /user/queue/viewport 를 구독하고, 지도를 움직일 때마다
+ * /app/matches/viewport 로 경계 상자를 보낸다. 응답(SNAPSHOT)은 새로 들어온 셀의 경기만 담고,
+ * 이후 보이는 셀의 경기 생성/마감/재모집/취소가 변경분으로 전달된다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class MatchViewportController {
+    
+    private final ViewportService viewportService;
+    
+    @MessageMapping("/matches/viewport")
+    @SendToUser(destinations = "/queue/viewport", broadcast = false)
+    public ViewportUpdateResponse subscribe(@Valid @Payload ViewportRequest request,
+                                            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                                            Principal principal) {
+        return viewportService.subscribe(sessionId, principal.getName(), request);
+    }
+    
+    @MessageMapping("/matches/viewport/clear")
+    public void unsubscribe(@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        viewportService.unsubscribe(sessionId);
+    }
+}
@@ -0,0 +1,67 @@
+package com.pnu.basketball.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "courts", indexes = @Index(name = "idx_courts_location", columnList = "latitude, longitude"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Court {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "court_id")
+    private Long courtId;
+    
+    @Column(nullable = false, length = 100)
+    private String name;
+    
+    @Column(length = 255)
+    private String address;
+    
+    @Column(nullable = false)
+    private Double latitude;
+    
+    @Column(nullable = false)
+    private Double longitude;
+    
+    @Column(name = "hoop_count")
+    private Integer hoopCount;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "floor_type", length = 20)
+    private FloorType floorType;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean indoor = false;
+    
+    @Column(name = "created_by")
+    private Long createdBy;  // 등록한 사용자 ID
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public void update(String name, String address, Double latitude, Double longitude,
+                       Integer hoopCount, FloorType floorType, Boolean indoor) {
+        this.name = name;
+        this.address = address;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.hoopCount = hoopCount;
+        this.floorType = floorType;
+        this.indoor = indoor;
+    }
+}
@@ -0,0 +1,9 @@
+package com.pnu.basketball.domain;
+
+public enum FloorType {
+    URETHANE,  // 우레탄
+    ASPHALT,   // 아스팔트
+    CONCRETE,  // 콘크리트
+    WOOD,      // 마루 (실내)
+    OTHER
+}
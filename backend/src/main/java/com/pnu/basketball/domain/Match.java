@@ -0,0 +1,62 @@
+package com.pnu.basketball.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 픽업 경기(번개) 모집 글.
+ * 참가자 명단은 이 엔티티가 아닌 match_participant_events 로그로 저장된다 (MatchLobby 참고).
+ */
+@Entity
+@Table(name = "matches", indexes = @Index(name = "idx_matches_court_starts_at", columnList = "court_id, starts_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Match {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "match_id")
+    private Long matchId;
+    
+    @Column(name = "court_id", nullable = false)
+    private Long courtId;
+    
+    @Column(name = "host_id", nullable = false)
+    private Long hostId;  // 모집한 사용자 ID
+    
+    @Column(nullable = false, length = 100)
+    private String title;
+    
+    @Column(nullable = false)
+    private Integer capacity;  // 모집 인원 (호스트 포함)
+    
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+    
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt;  // 호스트가 취소한 시각 (취소되지 않았으면 null)
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public boolean isCancelled() {
+        return cancelledAt != null;
+    }
+    
+    public void cancel(LocalDateTime now) {
+        if (cancelledAt == null) {
+            this.cancelledAt = now;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.pnu.basketball.domain;
+
+public enum ParticipantAction {
+    JOIN,   // 참가
+    LEAVE   // 참가 취소
+}
@@ -0,0 +1,15 @@
+package com.pnu.basketball.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ChatMessageRequest {
+    
+    @NotBlank(message = "메시지 내용은 필수입니다.")
+    @Size(max = 1000, message = "메시지는 1000자 이하여야 합니다.")
+    private String content;
+}
@@ -0,0 +1,40 @@
+package com.pnu.basketball.dto.request;
+
+import com.pnu.basketball.domain.FloorType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CourtRequest {
+    
+    @NotBlank(message = "농구장 이름은 필수입니다.")
+    @Size(max = 100, message = "농구장 이름은 100자 이하여야 합니다.")
+    private String name;
+    
+    @Size(max = 255, message = "주소는 255자 이하여야 합니다.")
+    private String address;
+    
+    @NotNull(message = "위도는 필수입니다.")
+    @DecimalMin(value = "-90.0", message = "유효하지 않은 위도입니다.")
+    @DecimalMax(value = "90.0", message = "유효하지 않은 위도입니다.")
+    private Double latitude;
+    
+    @NotNull(message = "경도는 필수입니다.")
+    @DecimalMin(value = "-180.0", message = "유효하지 않은 경도입니다.")
+    @DecimalMax(value = "180.0", message = "유효하지 않은 경도입니다.")
+    private Double longitude;
+    
+    @Min(value = 0, message = "골대 수는 0 이상이어야 합니다.")
+    private Integer hoopCount;
+    
+    private FloorType floorType;
+    
+    private Boolean indoor;
+}
@@ -0,0 +1,33 @@
+package com.pnu.basketball.dto.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class MatchRequest {
+    
+    @NotNull(message = "농구장 ID는 필수입니다.")
+    private Long courtId;
+    
+    @NotBlank(message = "제목은 필수입니다.")
+    @Size(max = 100, message = "제목은 100자 이하여야 합니다.")
+    private String title;
+    
+    @NotNull(message = "모집 인원은 필수입니다.")
+    @Min(value = 2, message = "모집 인원은 2명 이상이어야 합니다.")
+    @Max(value = 30, message = "모집 인원은 30명 이하여야 합니다.")
+    private Integer capacity;
+    
+    @NotNull(message = "시작 시간은 필수입니다.")
+    @Future(message = "시작 시간은 현재 이후여야 합니다.")
+    private LocalDateTime startsAt;
+}
@@ -13,6 +13,7 @@ public class SignupRequest {
     
     @NotBlank(message = "이메일은 필수입니다.")
     @Email(message = "유효한 이메일 형식이 아닙니다.")
+    @Size(max = 255, message = "이메일은 255자 이하여야 합니다.")  // users.email VARCHAR(255)
     private String email;
     
     @NotBlank(message = "비밀번호는 필수입니다.")
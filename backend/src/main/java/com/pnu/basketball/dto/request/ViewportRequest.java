@@ -0,0 +1,35 @@
+package com.pnu.basketball.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 화면의 경계 상자
+ */
+@Getter
+@NoArgsConstructor
+public class ViewportRequest {
+    
+    @NotNull(message = "남쪽 위도는 필수입니다.")
+    @DecimalMin(value = "-90.0", message = "유효하지 않은 위도입니다.")
+    @DecimalMax(value = "90.0", message = "유효하지 않은 위도입니다.")
+    private Double south;
+    
+    @NotNull(message = "서쪽 경도는 필수입니다.")
+    @DecimalMin(value = "-180.0", message = "유효하지 않은 경도입니다.")
+    @DecimalMax(value = "180.0", message = "유효하지 않은 경도입니다.")
+    private Double west;
+    
+    @NotNull(message = "북쪽 위도는 필수입니다.")
+    @DecimalMin(value = "-90.0", message = "유효하지 않은 위도입니다.")
+    @DecimalMax(value = "90.0", message = "유효하지 않은 위도입니다.")
+    private Double north;
+    
+    @NotNull(message = "동쪽 경도는 필수입니다.")
+    @DecimalMin(value = "-180.0", message = "유효하지 않은 경도입니다.")
+    @DecimalMax(value = "180.0", message = "유효하지 않은 경도입니다.")
+    private Double east;
+}
@@ -0,0 +1,21 @@
+package com.pnu.basketball.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponse {
+    private List<ChatMessageResponse> messages;  // 최신순
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long nextCursor;  // 다음 페이지 요청의 before 값 (더 없으면 null)
+    private Boolean hasMore;
+}
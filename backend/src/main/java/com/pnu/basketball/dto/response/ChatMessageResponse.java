@@ -0,0 +1,34 @@
+package com.pnu.basketball.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.pnu.basketball.repository.ChatMessage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long messageId;  // Snowflake ID (JS 숫자 정밀도를 넘으므로 문자열), 히스토리 커서로 사용
+    private Long matchId;
+    private Long senderId;
+    private String content;
+    private LocalDateTime sentAt;
+    
+    public static ChatMessageResponse from(ChatMessage message) {
+        return ChatMessageResponse.builder()
+                .messageId(message.messageId())
+                .matchId(message.roomId())
+                .senderId(message.senderId())
+                .content(message.content())
+                .sentAt(message.sentAt())
+                .build();
+    }
+}
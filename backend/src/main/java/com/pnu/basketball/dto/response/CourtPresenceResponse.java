@@ -0,0 +1,27 @@
+package com.pnu.basketball.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.BitSet;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourtPresenceResponse {
+    private Long courtId;
+    private Integer onlineCount;
+    private List<Long> userIds;  // 최근 창 안에 체크인/하트비트한 사용자 (ID 오름차순)
+    
+    public static CourtPresenceResponse of(Long courtId, BitSet users) {
+        return CourtPresenceResponse.builder()
+                .courtId(courtId)
+                .onlineCount(users.cardinality())
+                .userIds(users.stream().mapToObj(Long::valueOf).toList())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.pnu.basketball.dto.response;
+
+import com.pnu.basketball.domain.Court;
+import com.pnu.basketball.domain.FloorType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourtResponse {
+    private Long courtId;
+    private String name;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+    private Integer hoopCount;
+    private FloorType floorType;
+    private Boolean indoor;
+    private Double distanceMeters;  // 반경 검색 시에만 포함
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public static CourtResponse from(Court court, Double distanceMeters) {
+        return CourtResponse.builder()
+                .courtId(court.getCourtId())
+                .name(court.getName())
+                .address(court.getAddress())
+                .latitude(court.getLatitude())
+                .longitude(court.getLongitude())
+                .hoopCount(court.getHoopCount())
+                .floorType(court.getFloorType())
+                .indoor(court.getIndoor())
+                .distanceMeters(distanceMeters)
+                .createdAt(court.getCreatedAt())
+                .updatedAt(court.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.pnu.basketball.dto.response;
+
+import com.pnu.basketball.service.match.LobbyState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchParticipantsResponse {
+    private Long matchId;
+    private Integer capacity;
+    private Integer participantCount;
+    private List<Long> participantIds;  // 참가 순서
+    private Boolean joined;  // 요청한 사용자의 참가 여부
+    
+    public static MatchParticipantsResponse from(LobbyState state, Long userId) {
+        return MatchParticipantsResponse.builder()
+                .matchId(state.matchId())
+                .capacity(state.capacity())
+                .participantCount(state.participantCount())
+                .participantIds(state.participantIds())
+                .joined(state.participantIds().contains(userId))
+                .build();
+    }
+}
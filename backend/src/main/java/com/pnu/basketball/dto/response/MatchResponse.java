@@ -0,0 +1,43 @@
+package com.pnu.basketball.dto.response;
+
+import com.pnu.basketball.domain.Match;
+import com.pnu.basketball.service.match.LobbyState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchResponse {
+    private Long matchId;
+    private Long courtId;
+    private Long hostId;
+    private String title;
+    private Integer capacity;
+    private Integer participantCount;
+    private List<Long> participantIds;  // 참가 순서
+    private LocalDateTime startsAt;
+    private LocalDateTime cancelledAt;
+    private LocalDateTime createdAt;
+    
+    public static MatchResponse from(Match match, LobbyState state) {
+        return MatchResponse.builder()
+                .matchId(match.getMatchId())
+                .courtId(match.getCourtId())
+                .hostId(match.getHostId())
+                .title(match.getTitle())
+                .capacity(match.getCapacity())
+                .participantCount(state.participantCount())
+                .participantIds(state.participantIds())
+                .startsAt(match.getStartsAt())
+                .cancelledAt(match.getCancelledAt())
+                .createdAt(match.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.pnu.basketball.dto.response;
+
+import com.pnu.basketball.repository.MatchLocation;
+import com.pnu.basketball.service.match.LobbyState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyMatchResponse {
+    private Long matchId;
+    private Long courtId;
+    private String title;
+    private Integer capacity;
+    private Integer participantCount;
+    private Boolean full;
+    private Boolean cancelled;
+    private LocalDateTime startsAt;
+    private Double latitude;  // 농구장 좌표
+    private Double longitude;
+    
+    public static NearbyMatchResponse from(MatchLocation location, LobbyState state) {
+        return from(location, state.participantCount());
+    }
+    
+    public static NearbyMatchResponse from(MatchLocation location, int participantCount) {
+        return NearbyMatchResponse.builder()
+                .matchId(location.matchId())
+                .courtId(location.courtId())
+                .title(location.title())
+                .capacity(location.capacity())
+                .participantCount(participantCount)
+                .full(participantCount >= location.capacity())
+                .cancelled(location.cancelledAt() != null)
+                .startsAt(location.startsAt())
+                .latitude(location.latitude())
+                .longitude(location.longitude())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.pnu.basketball.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponse {
+    private Long totalRows;
+    private Long importedRows;
+    private Long failedRows;
+    private Long elapsedMillis;
+    private Double rowsPerSecond;
+    private List<RowFailure> failures;
+    
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowFailure {
+        private Long rowNumber;  // 헤더 제외, 1부터 시작
+        private String email;
+        private String code;     // ErrorCode 이름 (EMAIL_ALREADY_EXISTS, NICKNAME_ALREADY_EXISTS, INVALID_INPUT)
+        private String message;
+    }
+}
@@ -0,0 +1,25 @@
+package com.pnu.basketball.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * /user/queue/viewport 로 전달되는 지도 갱신.
+ * SNAPSHOT은 구독 요청에 대한 응답으로 새로 들어온 셀의 모집 중인 경기를 담고,
+ * 그 밖의 type(CREATED, FILLED, REOPENED, CANCELLED)은 경기 하나의 변경분이다.
+ * 클라이언트는 matchId 기준으로 합치고, 화면을 벗어난 경기는 스스로 지운다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewportUpdateResponse {
+    
+    public static final String SNAPSHOT = "SNAPSHOT";
+    
+    private String type;
+    private List<NearbyMatchResponse> matches;
+    private Boolean truncated;  // 스냅샷이 snapshot-limit에서 잘렸는지 (지도를 확대해 다시 구독)
+}
@@ -19,16 +19,37 @@ public enum ErrorCode {
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "토큰이 만료되었습니다."),
     GOOGLE_TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "구글 토큰 검증에 실패했습니다."),
     
+    // 403 Forbidden
+    CHAT_ROOM_FORBIDDEN(HttpStatus.FORBIDDEN, "경기 참가자만 채팅방을 이용할 수 있습니다."),
+    MATCH_HOST_ONLY(HttpStatus.FORBIDDEN, "경기를 만든 사용자만 취소할 수 있습니다."),
+    STOMP_DESTINATION_FORBIDDEN(HttpStatus.FORBIDDEN, "허용되지 않은 메시지 목적지입니다."),
+    
     // 404 Not Found
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
+    COURT_NOT_FOUND(HttpStatus.NOT_FOUND, "농구장을 찾을 수 없습니다."),
+    MATCH_NOT_FOUND(HttpStatus.NOT_FOUND, "경기를 찾을 수 없습니다."),
     
     // 409 Conflict
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 이메일입니다."),
     NICKNAME_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 닉네임입니다."),
+    MATCH_FULL(HttpStatus.CONFLICT, "모집 인원이 가득 찼습니다."),
+    MATCH_CLOSED(HttpStatus.CONFLICT, "이미 시작된 경기입니다."),
+    MATCH_CANCELLED(HttpStatus.CONFLICT, "취소된 경기입니다."),
+    
+    // 413 Payload Too Large
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다."),
+    
+    // 429 Too Many Requests
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
-    GOOGLE_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "구글 API 통신 중 오류가 발생했습니다.");
+    GOOGLE_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "구글 API 통신 중 오류가 발생했습니다."),
+    
+    // 503 Service Unavailable (재시도 가능)
+    AUTH_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    MATCH_LOBBY_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "참가 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    CHAT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "메시지가 많아 전송할 수 없습니다. 잠시 후 다시 시도해주세요.");
     
     private final HttpStatus httpStatus;
     private final String message;
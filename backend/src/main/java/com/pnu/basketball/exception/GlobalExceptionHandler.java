@@ -1,6 +1,11 @@
 package com.pnu.basketball.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,11 +17,17 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
     
+    private static final String RETRY_AFTER_SECONDS = "1";
+    
+    private final MeterRegistry meterRegistry;
+    
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<Map<String, Object>> handleCustomException(CustomException e) {
         log.error("CustomException: {}", e.getMessage());
+        countError(e.getErrorCode());
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
@@ -27,12 +38,21 @@ public class GlobalExceptionHandler {
         
         response.put("error", error);
         
-        return ResponseEntity.status(e.getErrorCode().getHttpStatus()).body(response);
+        HttpStatus status = e.getErrorCode().getHttpStatus();
+        if (status == HttpStatus.SERVICE_UNAVAILABLE || status == HttpStatus.TOO_MANY_REQUESTS) {
+            // 재시도 가능한 오류는 클라이언트가 백오프할 수 있도록 Retry-After 제공
+            return ResponseEntity.status(status)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(response);
+        }
+        
+        return ResponseEntity.status(status).body(response);
     }
     
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationException(MethodArgumentNotValidException e) {
         log.error("ValidationException: {}", e.getMessage());
+        countError(ErrorCode.INVALID_INPUT);
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
@@ -58,6 +78,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleException(Exception e) {
         log.error("Unexpected error: ", e);
+        countError(ErrorCode.INTERNAL_SERVER_ERROR);
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
@@ -70,5 +91,13 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(ErrorCode.INTERNAL_SERVER_ERROR.getHttpStatus()).body(response);
     }
+    
+    private void countError(ErrorCode errorCode) {
+        Counter.builder("api.errors")
+                .description("GlobalExceptionHandler가 응답한 오류 수 (ErrorCode별)")
+                .tag("code", errorCode.name())
+                .tag("status", String.valueOf(errorCode.getHttpStatus().value()))
+                .register(meterRegistry)
+                .increment();
+    }
 }
-
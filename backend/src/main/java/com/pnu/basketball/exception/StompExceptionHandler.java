@@ -0,0 +1,34 @@
+package com.pnu.basketball.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * STOMP @MessageMapping 오류는 보낸 세션의 /user/queue/errors 로 전달한다 (HTTP 응답과 같은 형식).
+ */
+@Slf4j
+@ControllerAdvice
+public class StompExceptionHandler {
+    
+    @MessageExceptionHandler(CustomException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public Map<String, Object> handleCustomException(CustomException e) {
+        log.warn("STOMP CustomException: {}", e.getMessage());
+        return error(e.getErrorCode(), e.getMessage());
+    }
+    
+    @MessageExceptionHandler(MethodArgumentNotValidException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public Map<String, Object> handleValidationException(MethodArgumentNotValidException e) {
+        return error(ErrorCode.INVALID_INPUT, "입력값 검증에 실패했습니다.");
+    }
+    
+    private static Map<String, Object> error(ErrorCode errorCode, String message) {
+        return Map.of("success", false, "error", Map.of("code", errorCode.name(), "message", message));
+    }
+}
@@ -0,0 +1,10 @@
+package com.pnu.basketball.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 (chat_messages 한 행). roomId는 경기 ID이다.
+ * messageId는 Snowflake ID이며 sentAt은 ID에 담긴 발급 시각이다.
+ */
+public record ChatMessage(long messageId, long roomId, long senderId, String content, LocalDateTime sentAt) {
+}
@@ -0,0 +1,96 @@
+package com.pnu.basketball.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 채팅 메시지 저장소 (JDBC 배치 INSERT, 커서 기반 조회).
+ * chat_messages는 sent_at 기준 월별 파티션 테이블이다 (docs/database/schema.sql).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageRepository {
+    
+    private static final String INSERT_IGNORING_DUPLICATES = """
+            INSERT INTO chat_messages (room_id, message_id, sender_id, content, sent_at)
+            VALUES (:roomId, :messageId, :senderId, :content, :sentAt)
+            ON CONFLICT DO NOTHING
+            """;
+    
+    private static final String FIND_LATEST = """
+            SELECT room_id, message_id, sender_id, content, sent_at
+            FROM chat_messages
+            WHERE room_id = :roomId
+            ORDER BY message_id DESC
+            LIMIT :limit
+            """;
+    
+    // message_id는 시간순이므로 커서 시각 이후 파티션은 sent_at 조건으로 제외된다
+    private static final String FIND_BEFORE = """
+            SELECT room_id, message_id, sender_id, content, sent_at
+            FROM chat_messages
+            WHERE room_id = :roomId
+              AND message_id < :before
+              AND sent_at <= :beforeSentAt
+            ORDER BY message_id DESC
+            LIMIT :limit
+            """;
+    
+    private static final String CREATE_MONTHLY_PARTITION = """
+            CREATE TABLE IF NOT EXISTS chat_messages_%s PARTITION OF chat_messages
+            FOR VALUES FROM ('%s') TO ('%s')
+            """;
+    
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    private static final RowMapper<ChatMessage> MESSAGE_ROW_MAPPER = (rs, rowNum) -> new ChatMessage(
+            rs.getLong("message_id"),
+            rs.getLong("room_id"),
+            rs.getLong("sender_id"),
+            rs.getString("content"),
+            rs.getTimestamp("sent_at").toLocalDateTime());
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public void insertAll(List<ChatMessage> messages) {
+        SqlParameterSource[] batch = messages.stream()
+                .map(message -> new MapSqlParameterSource()
+                        .addValue("roomId", message.roomId())
+                        .addValue("messageId", message.messageId())
+                        .addValue("senderId", message.senderId())
+                        .addValue("content", message.content())
+                        .addValue("sentAt", message.sentAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_IGNORING_DUPLICATES, batch);
+    }
+    
+    /**
+     * 최신순으로 최대 limit개. before가 null이면 가장 최근부터, 아니면 before(커서)보다 이전 메시지를 반환한다.
+     */
+    public List<ChatMessage> findPage(long roomId, Long before, LocalDateTime beforeSentAt, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("roomId", roomId)
+                .addValue("limit", limit);
+        if (before == null) {
+            return jdbcTemplate.query(FIND_LATEST, params, MESSAGE_ROW_MAPPER);
+        }
+        params.addValue("before", before)
+                .addValue("beforeSentAt", beforeSentAt);
+        return jdbcTemplate.query(FIND_BEFORE, params, MESSAGE_ROW_MAPPER);
+    }
+    
+    public void createMonthlyPartition(YearMonth month) {
+        String sql = CREATE_MONTHLY_PARTITION.formatted(
+                month.format(PARTITION_SUFFIX), month.atDay(1), month.plusMonths(1).atDay(1));
+        jdbcTemplate.getJdbcTemplate().execute(sql);
+    }
+}
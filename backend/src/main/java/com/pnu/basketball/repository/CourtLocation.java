@@ -0,0 +1,7 @@
+package com.pnu.basketball.repository;
+
+/**
+ * 공간 인덱스 구축용 농구장 좌표 프로젝션
+ */
+public record CourtLocation(Long courtId, Double latitude, Double longitude) {
+}
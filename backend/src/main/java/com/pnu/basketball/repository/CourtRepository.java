@@ -0,0 +1,25 @@
+package com.pnu.basketball.repository;
+
+import com.pnu.basketball.domain.Court;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CourtRepository extends JpaRepository<Court, Long> {
+    
+    @Query("select new com.pnu.basketball.repository.CourtLocation(c.courtId, c.latitude, c.longitude) from Court c")
+    List<CourtLocation> findAllLocations();
+    
+    // 공간 인덱스를 사용할 수 없을 때의 대체 경로: (latitude, longitude) 인덱스 범위 조회
+    @Query("select c from Court c " +
+            "where c.latitude between :minLatitude and :maxLatitude " +
+            "and c.longitude between :minLongitude and :maxLongitude")
+    List<Court> findInBoundingBox(@Param("minLatitude") double minLatitude,
+                                  @Param("maxLatitude") double maxLatitude,
+                                  @Param("minLongitude") double minLongitude,
+                                  @Param("maxLongitude") double maxLongitude);
+}
@@ -0,0 +1,19 @@
+package com.pnu.basketball.repository;
+
+import com.pnu.basketball.domain.User;
+
+/**
+ * 구글 로그인 upsert 결과
+ */
+public record GoogleUserUpsert(User user, Outcome outcome) {
+    
+    public enum Outcome {
+        EXISTING,  // google_id로 찾은 기존 사용자
+        LINKED,    // 이메일 사용자에 구글 계정 연결
+        INSERTED   // 신규 생성
+    }
+    
+    public boolean isNewUser() {
+        return outcome == Outcome.INSERTED;
+    }
+}
@@ -0,0 +1,15 @@
+package com.pnu.basketball.repository;
+
+import com.pnu.basketball.domain.LoginType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 시도 기록 (login_history 한 행).
+ * outcome은 성공이면 SUCCESS, 실패면 응답한 ErrorCode 이름이다. 사용자를 찾지 못한 시도는 userId가 null.
+ */
+public record LoginHistory(Long userId, String email, LoginType loginType, String ipAddress, String outcome,
+                           LocalDateTime occurredAt) {
+    
+    public static final String SUCCESS = "SUCCESS";
+}
@@ -0,0 +1,38 @@
+package com.pnu.basketball.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 로그인 기록 저장소 (JDBC 배치 INSERT)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginHistoryRepository {
+    
+    private static final String INSERT = """
+            INSERT INTO login_history (user_id, email, login_type, ip_address, outcome, occurred_at)
+            VALUES (:userId, :email, :loginType, :ipAddress, :outcome, :occurredAt)
+            """;
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public void insertAll(List<LoginHistory> entries) {
+        SqlParameterSource[] batch = entries.stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("userId", entry.userId(), Types.BIGINT)
+                        .addValue("email", entry.email(), Types.VARCHAR)
+                        .addValue("loginType", entry.loginType().name())
+                        .addValue("ipAddress", entry.ipAddress(), Types.VARCHAR)
+                        .addValue("outcome", entry.outcome())
+                        .addValue("occurredAt", entry.occurredAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+}
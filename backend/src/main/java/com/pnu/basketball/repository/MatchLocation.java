@@ -0,0 +1,10 @@
+package com.pnu.basketball.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지도 표시용 경기 요약과 농구장 좌표 (JPQL 생성자 프로젝션).
+ */
+public record MatchLocation(Long matchId, Long courtId, String title, Integer capacity, LocalDateTime startsAt,
+                            LocalDateTime cancelledAt, Double latitude, Double longitude) {
+}
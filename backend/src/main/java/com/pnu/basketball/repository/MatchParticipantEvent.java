@@ -0,0 +1,14 @@
+package com.pnu.basketball.repository;
+
+import com.pnu.basketball.domain.ParticipantAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경기 참가/취소 이벤트 (match_participant_events 한 행).
+ * eventId는 이벤트마다 발급하는 Snowflake ID로, 같은 이벤트를 다시 저장하는 재시도를 구분한다.
+ * sequence는 경기별로 1부터 증가하며, 재시작 시 이 순서대로 재생해 명단을 복구한다.
+ */
+public record MatchParticipantEvent(long eventId, long matchId, long sequence, long userId, ParticipantAction action,
+                                    LocalDateTime occurredAt) {
+}
@@ -0,0 +1,85 @@
+package com.pnu.basketball.repository;
+
+import com.pnu.basketball.domain.ParticipantAction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경기 참가 이벤트 로그 저장소 (JDBC 배치 INSERT).
+ * 재시도로 같은 이벤트(event_id)를 다시 넣으면 무시하고, 다른 이벤트가 같은 (match_id, sequence)를 차지하고 있으면
+ * 기본 키 위반(DuplicateKeyException)으로 실패한다. 두 명단이 같은 경기를 따로 갱신한 경우이므로 조용히 버리지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchParticipantEventRepository {
+    
+    private static final String INSERT_IGNORING_RETRIES = """
+            INSERT INTO match_participant_events (event_id, match_id, sequence, user_id, action, occurred_at)
+            VALUES (:eventId, :matchId, :sequence, :userId, :action, :occurredAt)
+            ON CONFLICT (event_id) DO NOTHING
+            """;
+    
+    private static final String FIND_BY_MATCH_ID = """
+            SELECT event_id, match_id, sequence, user_id, action, occurred_at
+            FROM match_participant_events
+            WHERE match_id = :matchId
+            ORDER BY sequence
+            """;
+    
+    private static final String COUNT_PARTICIPANTS = """
+            SELECT match_id, SUM(CASE WHEN action = 'JOIN' THEN 1 ELSE -1 END) AS participants
+            FROM match_participant_events
+            WHERE match_id IN (:matchIds)
+            GROUP BY match_id
+            """;
+    
+    private static final RowMapper<MatchParticipantEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new MatchParticipantEvent(
+            rs.getLong("event_id"),
+            rs.getLong("match_id"),
+            rs.getLong("sequence"),
+            rs.getLong("user_id"),
+            ParticipantAction.valueOf(rs.getString("action")),
+            rs.getTimestamp("occurred_at").toLocalDateTime());
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public void insertAll(List<MatchParticipantEvent> events) {
+        SqlParameterSource[] batch = events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("eventId", event.eventId())
+                        .addValue("matchId", event.matchId())
+                        .addValue("sequence", event.sequence())
+                        .addValue("userId", event.userId())
+                        .addValue("action", event.action().name())
+                        .addValue("occurredAt", event.occurredAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_IGNORING_RETRIES, batch);
+    }
+    
+    /**
+     * 경기별 참가 인원 (JOIN은 참가하지 않은 사용자만, LEAVE는 참가한 사용자만 기록되므로 JOIN - LEAVE). 이벤트가 없는 경기는 빠진다.
+     */
+    public Map<Long, Integer> countParticipants(Collection<Long> matchIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (matchIds.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(COUNT_PARTICIPANTS, new MapSqlParameterSource("matchIds", matchIds),
+                (RowCallbackHandler) rs -> counts.put(rs.getLong("match_id"), rs.getInt("participants")));
+        return counts;
+    }
+    
+    public List<MatchParticipantEvent> findByMatchId(long matchId) {
+        return jdbcTemplate.query(FIND_BY_MATCH_ID, new MapSqlParameterSource("matchId", matchId), EVENT_ROW_MAPPER);
+    }
+}
@@ -0,0 +1,38 @@
+package com.pnu.basketball.repository;
+
+import com.pnu.basketball.domain.Match;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MatchRepository extends JpaRepository<Match, Long> {
+    
+    @Query("select new com.pnu.basketball.repository.MatchLocation(" +
+            "m.matchId, m.courtId, m.title, m.capacity, m.startsAt, m.cancelledAt, c.latitude, c.longitude) " +
+            "from Match m join Court c on c.courtId = m.courtId " +
+            "where m.matchId = :matchId")
+    Optional<MatchLocation> findLocationById(@Param("matchId") Long matchId);
+    
+    // 뷰포트 스냅샷: (latitude, longitude) 인덱스로 농구장을 고른 뒤 (court_id, starts_at) 인덱스로 경기를 찾는다
+    // 북/동 경계는 제외하여 GeoGrid 셀(내림 기준)과 같은 범위를 조회한다 (맞닿은 직사각형끼리 겹치지 않음)
+    @Query("select new com.pnu.basketball.repository.MatchLocation(" +
+            "m.matchId, m.courtId, m.title, m.capacity, m.startsAt, m.cancelledAt, c.latitude, c.longitude) " +
+            "from Match m join Court c on c.courtId = m.courtId " +
+            "where c.latitude >= :south and c.latitude < :north " +
+            "and c.longitude >= :west and c.longitude < :east " +
+            "and m.startsAt > :now and m.cancelledAt is null " +
+            "order by m.startsAt")
+    List<MatchLocation> findOpenInBoundingBox(@Param("south") double south,
+                                              @Param("west") double west,
+                                              @Param("north") double north,
+                                              @Param("east") double east,
+                                              @Param("now") LocalDateTime now,
+                                              Limit limit);
+}
@@ -2,15 +2,30 @@ package com.pnu.basketball.repository;
 
 import com.pnu.basketball.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+    
+    // 로그인/토큰 갱신의 사용자 조회는 인증 전이라 read-your-writes 창이 적용되지 않는다.
+    // 가입 직후 로그인이 복제 지연으로 실패하지 않도록 읽기-쓰기 트랜잭션(= Primary)에서 읽는다.
+    @Transactional
+    Optional<User> findOnPrimaryByEmail(String email);
+    
+    @Transactional
+    Optional<User> findOnPrimaryByUserId(Long userId);
+    
     Optional<User> findByGoogleId(String googleId);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+    
+    @Query("select u.nickname from User u where u.nickname like :prefix escape '\\'")
+    List<String> findNicknamesStartingWith(@Param("prefix") String prefix);
 }
 
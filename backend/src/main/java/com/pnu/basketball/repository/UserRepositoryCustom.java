@@ -0,0 +1,41 @@
+package com.pnu.basketball.repository;
+
+import com.pnu.basketball.domain.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL INSERT ... ON CONFLICT 기반 사용자 저장 (한 문장으로 중복 확인과 저장을 처리)
+ */
+public interface UserRepositoryCustom {
+    
+    /**
+     * 이메일이 없을 때만 사용자를 저장한다. 이미 존재하는 이메일이면 빈 값을 반환하며,
+     * 닉네임 중복은 DuplicateKeyException으로 전달된다.
+     */
+    Optional<User> insertIfEmailAbsent(User user);
+    
+    /**
+     * 구글 사용자를 조회/연결/생성한다.
+     * google_id로 찾으면 그대로, 같은 이메일 사용자가 있으면 구글 계정을 연결하고,
+     * 없으면 nickname이 주어진 경우에만 생성한다. 생성하지 못했거나 동시 가입과 경합한 경우 빈 값을 반환한다.
+     */
+    Optional<GoogleUserUpsert> upsertGoogleUser(String googleId, String email, String nickname, String profileImageUrl);
+    
+    /**
+     * users_user_id_seq에서 ID를 count개 할당한다 (행마다 nextval 1회, 조회는 한 번).
+     */
+    List<Long> allocateIds(int count);
+    
+    /**
+     * ID가 지정된 사용자들을 JDBC 배치로 저장한다. 제약 조건에 걸린 행은 건너뛴다 (ON CONFLICT DO NOTHING).
+     */
+    void insertAllIgnoringConflicts(List<User> users);
+    
+    /**
+     * 일괄 저장 결과 확인용: ID/이메일/닉네임 중 하나라도 일치하는 사용자를 한 번에 조회한다.
+     */
+    List<User> findAllByIdsOrEmailsOrNicknames(Collection<Long> ids, Collection<String> emails, Collection<String> nicknames);
+}
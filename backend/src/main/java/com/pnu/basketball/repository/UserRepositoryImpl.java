@@ -0,0 +1,152 @@
+package com.pnu.basketball.repository;
+
+import com.pnu.basketball.domain.LoginType;
+import com.pnu.basketball.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    
+    private static final String USER_COLUMNS =
+            "user_id, email, password, nickname, phone_number, profile_image_url, login_type, google_id, created_at, updated_at";
+    
+    // email 충돌은 DO NOTHING(반환 행 없음), nickname 충돌은 unique 위반으로 전달
+    private static final String INSERT_IF_EMAIL_ABSENT = """
+            INSERT INTO users (email, password, nickname, phone_number, login_type, created_at, updated_at)
+            VALUES (:email, :password, :nickname, :phoneNumber, :loginType, now(), now())
+            ON CONFLICT (email) DO NOTHING
+            RETURNING %s
+            """.formatted(USER_COLUMNS);
+    
+    // google_id 조회 → 이메일 사용자 연결 → 신규 생성을 한 문장으로 처리 (CTE는 같은 스냅샷을 본다)
+    private static final String UPSERT_GOOGLE_USER = """
+            WITH by_google AS (
+                SELECT %1$s FROM users WHERE google_id = :googleId
+            ), linked AS (
+                UPDATE users
+                SET google_id = :googleId, login_type = 'GOOGLE', profile_image_url = :profileImageUrl, updated_at = now()
+                WHERE email = :email AND NOT EXISTS (SELECT 1 FROM by_google)
+                RETURNING %1$s
+            ), inserted AS (
+                INSERT INTO users (email, nickname, profile_image_url, login_type, google_id, created_at, updated_at)
+                SELECT :email, CAST(:nickname AS VARCHAR), CAST(:profileImageUrl AS VARCHAR), 'GOOGLE', :googleId, now(), now()
+                WHERE CAST(:nickname AS VARCHAR) IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM by_google)
+                  AND NOT EXISTS (SELECT 1 FROM linked)
+                ON CONFLICT (email) DO NOTHING
+                RETURNING %1$s
+            )
+            SELECT %1$s, 'EXISTING' AS outcome FROM by_google
+            UNION ALL
+            SELECT %1$s, 'LINKED' AS outcome FROM linked
+            UNION ALL
+            SELECT %1$s, 'INSERTED' AS outcome FROM inserted
+            """.formatted(USER_COLUMNS);
+    
+    private static final String INSERT_IGNORING_CONFLICTS = """
+            INSERT INTO users (user_id, email, password, nickname, phone_number, login_type, created_at, updated_at)
+            VALUES (:userId, :email, :password, :nickname, :phoneNumber, :loginType, now(), now())
+            ON CONFLICT DO NOTHING
+            """;
+    
+    private static final String FIND_BY_IDS_OR_EMAILS_OR_NICKNAMES = """
+            SELECT %s FROM users
+            WHERE user_id IN (:ids) OR email IN (:emails) OR nickname IN (:nicknames)
+            """.formatted(USER_COLUMNS);
+    
+    private static final String USER_ID_SEQUENCE = "users_user_id_seq";
+    
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> mapUser(rs);
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Override
+    public Optional<User> insertIfEmailAbsent(User user) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("email", user.getEmail())
+                .addValue("password", user.getPassword())
+                .addValue("nickname", user.getNickname())
+                .addValue("phoneNumber", user.getPhoneNumber())
+                .addValue("loginType", user.getLoginType().name());
+        
+        List<User> rows = jdbcTemplate.query(INSERT_IF_EMAIL_ABSENT, params, USER_ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+    
+    @Override
+    public Optional<GoogleUserUpsert> upsertGoogleUser(String googleId, String email, String nickname, String profileImageUrl) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("googleId", googleId)
+                .addValue("email", email)
+                .addValue("nickname", nickname)
+                .addValue("profileImageUrl", profileImageUrl);
+        
+        List<GoogleUserUpsert> rows = jdbcTemplate.query(UPSERT_GOOGLE_USER, params, (rs, rowNum) ->
+                new GoogleUserUpsert(mapUser(rs), GoogleUserUpsert.Outcome.valueOf(rs.getString("outcome"))));
+        return rows.stream().findFirst();
+    }
+    
+    @Override
+    public List<Long> allocateIds(int count) {
+        // 행마다 nextval을 호출하되 한 번의 왕복으로 받는다 (시퀀스 증가값은 1)
+        return jdbcTemplate.queryForList(
+                "SELECT nextval('" + USER_ID_SEQUENCE + "') FROM generate_series(1, :count)",
+                new MapSqlParameterSource("count", count), Long.class);
+    }
+    
+    @Override
+    public void insertAllIgnoringConflicts(List<User> users) {
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("userId", user.getUserId())
+                    .addValue("email", user.getEmail())
+                    .addValue("password", user.getPassword())
+                    .addValue("nickname", user.getNickname())
+                    .addValue("phoneNumber", user.getPhoneNumber())
+                    .addValue("loginType", user.getLoginType().name());
+        }
+        // reWriteBatchedInserts=true이면 드라이버가 다중 VALUES 문으로 묶는다 (행별 갱신 수는 제공되지 않음)
+        jdbcTemplate.batchUpdate(INSERT_IGNORING_CONFLICTS, batch);
+    }
+    
+    @Override
+    public List<User> findAllByIdsOrEmailsOrNicknames(Collection<Long> ids, Collection<String> emails, Collection<String> nicknames) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("emails", emails)
+                .addValue("nicknames", nicknames);
+        return jdbcTemplate.query(FIND_BY_IDS_OR_EMAILS_OR_NICKNAMES, params, USER_ROW_MAPPER);
+    }
+    
+    private static User mapUser(ResultSet rs) throws SQLException {
+        return User.builder()
+                .userId(rs.getLong("user_id"))
+                .email(rs.getString("email"))
+                .password(rs.getString("password"))
+                .nickname(rs.getString("nickname"))
+                .phoneNumber(rs.getString("phone_number"))
+                .profileImageUrl(rs.getString("profile_image_url"))
+                .loginType(LoginType.valueOf(rs.getString("login_type")))
+                .googleId(rs.getString("google_id"))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .build();
+    }
+    
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -3,11 +3,12 @@ package com.pnu.basketball.service.auth;
 import com.pnu.basketball.dto.request.LoginRequest;
 import com.pnu.basketball.dto.request.SignupRequest;
 import com.pnu.basketball.dto.response.AuthResponse;
+import com.pnu.basketball.util.JwtPrincipal;
 
 public interface AuthService {
     AuthResponse signup(SignupRequest request);
     AuthResponse login(LoginRequest request);
     AuthResponse refreshToken(String refreshToken);
-    void logout(Long userId, String refreshToken);
+    void logout(Long userId, String refreshToken, JwtPrincipal accessToken);
 }
 
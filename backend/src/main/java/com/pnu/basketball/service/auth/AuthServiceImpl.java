@@ -1,5 +1,6 @@
 package com.pnu.basketball.service.auth;
 
+import com.pnu.basketball.config.datasource.ReadYourWritesWindow;
 import com.pnu.basketball.domain.LoginType;
 import com.pnu.basketball.domain.User;
 import com.pnu.basketball.dto.request.LoginRequest;
@@ -7,16 +8,22 @@ import com.pnu.basketball.dto.request.SignupRequest;
 import com.pnu.basketball.dto.response.AuthResponse;
 import com.pnu.basketball.exception.CustomException;
 import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.LoginHistory;
 import com.pnu.basketball.repository.UserRepository;
+import com.pnu.basketball.service.auth.RefreshSessionStore.ClaimsSnapshot;
+import com.pnu.basketball.service.auth.RefreshSessionStore.RefreshSession;
+import com.pnu.basketball.service.user.UserMembershipIndex;
+import com.pnu.basketball.util.AccessTokenRevocationList;
+import com.pnu.basketball.util.JwtPrincipal;
 import com.pnu.basketball.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -24,38 +31,42 @@ import java.util.concurrent.TimeUnit;
 public class AuthServiceImpl implements AuthService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
-    private final RedisTemplate<String, String> redisTemplate;
-    
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private final RefreshSessionStore refreshSessionStore;
+    private final UserMembershipIndex userMembershipIndex;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final LoginHistoryWriter loginHistoryWriter;
+    private final ReadYourWritesWindow readYourWritesWindow;
     
+    // INSERT ... ON CONFLICT 한 문장으로 중복 확인과 저장을 처리하므로 별도 트랜잭션이 필요 없다
     @Override
-    @Transactional
     public AuthResponse signup(SignupRequest request) {
-        // 이메일 중복 확인
-        if (userRepository.existsByEmail(request.getEmail())) {
+        // 이미 가입된 것으로 보이는 이메일은 BCrypt 해싱 전에 거절 (블룸 필터가 확실히 없다고 하면 생략)
+        if (userMembershipIndex.mightContainEmail(request.getEmail()) && userRepository.existsByEmail(request.getEmail())) {
             throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
         
-        // 닉네임 중복 확인
-        if (userRepository.existsByNickname(request.getNickname())) {
-            throw new CustomException(ErrorCode.NICKNAME_ALREADY_EXISTS);
-        }
-        
         // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHasher.encode(request.getPassword());
         
-        // 사용자 생성
-        User user = User.builder()
-                .email(request.getEmail())
-                .password(encodedPassword)
-                .nickname(request.getNickname())
-                .phoneNumber(request.getPhoneNumber())
-                .loginType(LoginType.EMAIL)
-                .build();
-        
-        user = userRepository.save(user);
+        // 사용자 생성 (이메일 충돌 시 행 없음, 닉네임 충돌 시 unique 위반)
+        User user;
+        try {
+            user = userRepository.insertIfEmailAbsent(User.builder()
+                            .email(request.getEmail())
+                            .password(encodedPassword)
+                            .nickname(request.getNickname())
+                            .phoneNumber(request.getPhoneNumber())
+                            .loginType(LoginType.EMAIL)
+                            .build())
+                    .orElseThrow(() -> new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS));
+        } catch (DuplicateKeyException e) {
+            throw new CustomException(ErrorCode.NICKNAME_ALREADY_EXISTS);
+        }
+        userMembershipIndex.add(user.getEmail(), user.getNickname());
+        // 가입 직후 조회(/api/auth/me 등)가 아직 복제되지 않은 복제본으로 가지 않도록
+        readYourWritesWindow.markWritten(user.getUserId());
         
         log.info("새 사용자 가입: userId={}, email={}", user.getUserId(), user.getEmail());
         
@@ -65,44 +76,65 @@ public class AuthServiceImpl implements AuthService {
     
     @Override
     public AuthResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        
-        // 비밀번호 확인
-        if (user.getPassword() == null || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
+        Long userId = null;
+        String email = request.getEmail();
+        // 비밀번호 검증 대기열 초과(AUTH_SERVER_BUSY)나 예상하지 못한 오류로 끝난 시도도 기록한다
+        String outcome = ErrorCode.INTERNAL_SERVER_ERROR.name();
+        try {
+            User user = userRepository.findOnPrimaryByEmail(request.getEmail())
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            userId = user.getUserId();
+            email = user.getEmail();
+            
+            // 비밀번호 확인
+            if (user.getPassword() == null || !passwordHasher.matches(request.getPassword(), user.getPassword())) {
+                throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
+            }
+            
+            log.info("사용자 로그인: userId={}, email={}", user.getUserId(), user.getEmail());
+            
+            AuthResponse response = generateAuthResponse(user, false);
+            outcome = LoginHistory.SUCCESS;
+            return response;
+        } catch (CustomException e) {
+            outcome = e.getErrorCode().name();
+            throw e;
+        } finally {
+            loginHistoryWriter.record(userId, email, LoginType.EMAIL, outcome);
         }
-        
-        log.info("사용자 로그인: userId={}, email={}", user.getUserId(), user.getEmail());
-        
-        return generateAuthResponse(user, false);
     }
     
     @Override
     public AuthResponse refreshToken(String refreshToken) {
         try {
-            // Refresh Token 검증
-            if (jwtUtil.isTokenExpired(refreshToken)) {
-                throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+            // Refresh Token 검증 (서명/만료 확인은 1회 파싱으로 처리)
+            Claims claims = jwtUtil.extractClaims(refreshToken);
+            String sessionId = claims.get(JwtUtil.SESSION_ID_CLAIM, String.class);
+            if (sessionId == null || !JwtUtil.REFRESH_TOKEN_TYPE.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class))) {
+                throw new CustomException(ErrorCode.INVALID_TOKEN);
             }
             
-            Long userId = jwtUtil.extractUserId(refreshToken);
+            Long userId = Long.parseLong(claims.getSubject());
             
-            // Redis에서 Refresh Token 확인
-            String storedToken = redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + userId);
-            if (storedToken == null || !storedToken.equals(refreshToken)) {
-                throw new CustomException(ErrorCode.INVALID_TOKEN);
-            }
+            // Redis에서 세션 확인 (토큰 해시 + 클레임 스냅샷을 한 번에 조회)
+            RefreshSession session = refreshSessionStore.find(userId, sessionId)
+                    .filter(found -> refreshSessionStore.matches(found, refreshToken))
+                    .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
             
-            // 새로운 Access Token 발급
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            // 새로운 Access Token 발급 (스냅샷이 무효화된 경우에만 DB 조회)
+            ClaimsSnapshot snapshot = session.snapshot();
+            if (snapshot == null) {
+                User user = userRepository.findOnPrimaryByUserId(userId)
+                        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+                refreshSessionStore.updateSnapshot(user, sessionId, session);
+                snapshot = new ClaimsSnapshot(user.getEmail(), user.getNickname(), user.getLoginType().name());
+            }
             
             String newAccessToken = jwtUtil.generateAccessToken(
-                    user.getUserId(),
-                    user.getEmail(),
-                    user.getNickname(),
-                    user.getLoginType().name()
+                    userId,
+                    snapshot.email(),
+                    snapshot.nickname(),
+                    snapshot.loginType()
             );
             
             log.info("토큰 갱신: userId={}", userId);
@@ -114,6 +146,8 @@ public class AuthServiceImpl implements AuthService {
                     .build();
         } catch (CustomException e) {
             throw e;
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(ErrorCode.TOKEN_EXPIRED);
         } catch (Exception e) {
             log.error("토큰 갱신 실패: ", e);
             throw new CustomException(ErrorCode.INVALID_TOKEN);
@@ -121,12 +155,31 @@ public class AuthServiceImpl implements AuthService {
     }
     
     @Override
-    public void logout(Long userId, String refreshToken) {
-        // Redis에서 Refresh Token 삭제
-        redisTemplate.delete(REFRESH_TOKEN_PREFIX + userId);
+    public void logout(Long userId, String refreshToken, JwtPrincipal accessToken) {
+        // 현재 기기의 Refresh 세션만 삭제 (다른 기기 세션은 유지)
+        String sessionId = extractSessionId(refreshToken);
+        if (sessionId != null) {
+            refreshSessionStore.delete(userId, sessionId);
+        }
+        // 현재 Access Token은 만료 시각까지 모든 노드에서 거절되도록 폐기
+        if (accessToken != null) {
+            accessTokenRevocationList.revoke(accessToken.tokenId(), accessToken.expiresAtMillis());
+        }
         log.info("사용자 로그아웃: userId={}", userId);
     }
     
+    private String extractSessionId(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtUtil.extractClaims(refreshToken);
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        } catch (Exception e) {
+            return null;
+        }
+        return claims.get(JwtUtil.SESSION_ID_CLAIM, String.class);
+    }
+    
     private AuthResponse generateAuthResponse(User user, boolean isNewUser) {
         String accessToken = jwtUtil.generateAccessToken(
                 user.getUserId(),
@@ -135,15 +188,11 @@ public class AuthServiceImpl implements AuthService {
                 user.getLoginType().name()
         );
         
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId());
+        String sessionId = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId(), sessionId);
         
-        // Redis에 Refresh Token 저장 (7일)
-        redisTemplate.opsForValue().set(
-                REFRESH_TOKEN_PREFIX + user.getUserId(),
-                refreshToken,
-                7,
-                TimeUnit.DAYS
-        );
+        // Redis에 기기별 Refresh 세션 저장 (클레임 스냅샷 포함)
+        refreshSessionStore.create(user, sessionId, refreshToken);
         
         return AuthResponse.builder()
                 .accessToken(accessToken)
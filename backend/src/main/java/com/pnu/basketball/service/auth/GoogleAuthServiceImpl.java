@@ -2,24 +2,31 @@ package com.pnu.basketball.service.auth;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
+import com.pnu.basketball.config.datasource.ReadYourWritesWindow;
 import com.pnu.basketball.domain.LoginType;
 import com.pnu.basketball.domain.User;
 import com.pnu.basketball.dto.request.GoogleLoginRequest;
 import com.pnu.basketball.dto.response.AuthResponse;
 import com.pnu.basketball.exception.CustomException;
 import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.GoogleUserUpsert;
+import com.pnu.basketball.repository.LoginHistory;
 import com.pnu.basketball.repository.UserRepository;
+import com.pnu.basketball.service.user.UserChangedEvent;
+import com.pnu.basketball.service.user.NicknameAllocator;
+import com.pnu.basketball.service.user.UserMembershipIndex;
 import com.pnu.basketball.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -27,18 +34,29 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class GoogleAuthServiceImpl implements GoogleAuthService {
     
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
+    
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshSessionStore refreshSessionStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserMembershipIndex userMembershipIndex;
+    private final NicknameAllocator nicknameAllocator;
+    private final LoginHistoryWriter loginHistoryWriter;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final MeterRegistry meterRegistry;
     
     @Value("${google.oauth2.client-id}")
     private String googleClientId;
     
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
-    
+    // upsert가 한 문장이므로 별도 트랜잭션 없이 실행한다 (중복 키 재시도가 중단된 트랜잭션에 막히지 않도록)
     @Override
-    @Transactional
     public AuthResponse authenticate(GoogleLoginRequest request) {
+        // 토큰 검증 이후 실패(upsert 등)도 누구의 시도인지 남도록 알게 되는 즉시 기록해 둔다
+        Long userId = null;
+        String email = null;
+        String outcome = ErrorCode.GOOGLE_API_ERROR.name();
         try {
             // Google ID Token 검증
             GoogleIdToken idToken = verifyGoogleToken(request.getIdToken());
@@ -48,90 +66,93 @@ public class GoogleAuthServiceImpl implements GoogleAuthService {
             }
             
             GoogleIdToken.Payload payload = idToken.getPayload();
-            String email = payload.getEmail();
+            email = payload.getEmail();
             String name = (String) payload.get("name");
             String pictureUrl = (String) payload.get("picture");
             String googleId = payload.getSubject();
             
-            // 기존 사용자 조회 또는 신규 생성
-            User user = userRepository.findByGoogleId(googleId)
-                    .orElseGet(() -> {
-                        // 이메일로도 조회 (기존 이메일 로그인 사용자가 구글 로그인 시도)
-                        return userRepository.findByEmail(email)
-                                .map(existingUser -> {
-                                    // 기존 사용자에 구글 정보 연결
-                                    User updatedUser = User.builder()
-                                            .userId(existingUser.getUserId())
-                                            .email(existingUser.getEmail())
-                                            .password(existingUser.getPassword())
-                                            .nickname(existingUser.getNickname())
-                                            .phoneNumber(existingUser.getPhoneNumber())
-                                            .profileImageUrl(pictureUrl)
-                                            .loginType(LoginType.GOOGLE)
-                                            .googleId(googleId)
-                                            .build();
-                                    return userRepository.save(updatedUser);
-                                })
-                                .orElseGet(() -> {
-                                    // 신규 사용자 생성
-                                    String nickname = generateNickname(name, email);
-                                    User newUser = User.builder()
-                                            .email(email)
-                                            .nickname(nickname)
-                                            .profileImageUrl(pictureUrl)
-                                            .loginType(LoginType.GOOGLE)
-                                            .googleId(googleId)
-                                            .build();
-                                    log.info("구글 로그인 신규 사용자 생성: email={}, nickname={}", email, nickname);
-                                    return userRepository.save(newUser);
-                                });
-                    });
+            // 기존 사용자 조회/연결/신규 생성을 upsert 한 문장으로 처리
+            GoogleUserUpsert upsert = upsertUser(googleId, email, name, pictureUrl);
+            User user = upsert.user();
+            userId = user.getUserId();
+            boolean isNewUser = upsert.isNewUser();
             
-            boolean isNewUser = user.getGoogleId() == null || 
-                               !userRepository.existsByGoogleId(googleId);
+            if (upsert.outcome() == GoogleUserUpsert.Outcome.LINKED) {
+                eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
+                readYourWritesWindow.markWritten(user.getUserId());
+            } else if (isNewUser) {
+                log.info("구글 로그인 신규 사용자 생성: email={}, nickname={}", email, user.getNickname());
+                userMembershipIndex.add(email, user.getNickname());
+                readYourWritesWindow.markWritten(user.getUserId());
+            }
             
             log.info("구글 로그인 성공: userId={}, email={}, isNewUser={}", user.getUserId(), email, isNewUser);
             
-            return generateAuthResponse(user, isNewUser);
+            AuthResponse response = generateAuthResponse(user, isNewUser);
+            outcome = LoginHistory.SUCCESS;
+            return response;
         } catch (CustomException e) {
+            outcome = e.getErrorCode().name();
             throw e;
         } catch (Exception e) {
             log.error("구글 로그인 실패: ", e);
             throw new CustomException(ErrorCode.GOOGLE_API_ERROR);
+        } finally {
+            loginHistoryWriter.record(userId, email, LoginType.GOOGLE, outcome);
+        }
+    }
+    
+    private GoogleUserUpsert upsertUser(String googleId, String email, String name, String pictureUrl) {
+        // 확실히 신규인 이메일만 닉네임을 미리 할당 (기존 사용자 로그인에서 닉네임 순번을 소모하지 않도록)
+        String nickname = userMembershipIndex.mightContainEmail(email) ? null : generateNickname(name, email);
+        
+        for (int attempt = 0; attempt < MAX_UPSERT_ATTEMPTS; attempt++) {
+            try {
+                Optional<GoogleUserUpsert> upsert = userRepository.upsertGoogleUser(googleId, email, nickname, pictureUrl);
+                if (upsert.isPresent()) {
+                    return upsert.get();
+                }
+                // 신규 이메일인데 닉네임이 없었거나(필터 오탐), 동시 가입과 경합한 경우 다시 시도
+                if (nickname == null) {
+                    nickname = generateNickname(name, email);
+                }
+            } catch (DuplicateKeyException e) {
+                // 다른 가입과 닉네임이 겹친 경우 새 닉네임으로 다시 시도
+                nickname = generateNickname(name, email);
+            }
         }
+        
+        log.error("구글 사용자 저장 재시도 초과: email={}", email);
+        throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
     }
     
     private GoogleIdToken verifyGoogleToken(String idTokenString) {
+        long startedAt = System.nanoTime();
+        String result = "error";
         try {
             if (googleClientId == null || googleClientId.isEmpty()) {
                 log.warn("Google Client ID가 설정되지 않았습니다.");
                 return null;
             }
             
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    new NetHttpTransport(),
-                    new GsonFactory())
-                    .setAudience(Collections.singletonList(googleClientId))
-                    .build();
-            
-            return verifier.verify(idTokenString);
+            GoogleIdToken idToken = googleIdTokenVerifier.verify(idTokenString);
+            result = idToken != null ? "valid" : "invalid";
+            return idToken;
         } catch (Exception e) {
             log.error("구글 토큰 검증 실패: ", e);
             return null;
+        } finally {
+            Timer.builder("google.id_token.verify")
+                    .description("구글 ID Token 검증 시간 (공개키 조회 포함)")
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
     }
     
     private String generateNickname(String name, String email) {
         String baseNickname = name != null && !name.isEmpty() ? name : email.split("@")[0];
-        String nickname = baseNickname;
-        int suffix = 1;
-        
-        while (userRepository.existsByNickname(nickname)) {
-            nickname = baseNickname + suffix;
-            suffix++;
-        }
-        
-        return nickname;
+        return nicknameAllocator.allocate(baseNickname);
     }
     
     private AuthResponse generateAuthResponse(User user, boolean isNewUser) {
@@ -142,15 +163,11 @@ public class GoogleAuthServiceImpl implements GoogleAuthService {
                 user.getLoginType().name()
         );
         
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId());
+        String sessionId = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId(), sessionId);
         
-        // Redis에 Refresh Token 저장 (7일)
-        redisTemplate.opsForValue().set(
-                REFRESH_TOKEN_PREFIX + user.getUserId(),
-                refreshToken,
-                7,
-                TimeUnit.DAYS
-        );
+        // Redis에 기기별 Refresh 세션 저장 (클레임 스냅샷 포함)
+        refreshSessionStore.create(user, sessionId, refreshToken);
         
         return AuthResponse.builder()
                 .accessToken(accessToken)
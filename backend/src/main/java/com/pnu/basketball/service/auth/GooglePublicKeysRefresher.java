@@ -0,0 +1,50 @@
+package com.pnu.basketball.service.auth;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구글 공개키를 만료 전에 백그라운드에서 갱신하여 로그인 요청이 인증서 조회를 기다리지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GooglePublicKeysRefresher {
+    
+    private final GooglePublicKeysManager googlePublicKeysManager;
+    
+    // GooglePublicKeysManager 자체 갱신 여유(5분)보다 길게 잡아야 요청 스레드보다 먼저 갱신된다
+    @Value("${google.oauth2.certs-refresh-ahead}")
+    private long refreshAheadMillis;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+    
+    @Scheduled(fixedDelayString = "${google.oauth2.certs-refresh-check-interval}",
+            initialDelayString = "${google.oauth2.certs-refresh-check-interval}")
+    public void refreshIfExpiring() {
+        long expiresAt = googlePublicKeysManager.getExpirationTimeMilliseconds();
+        if (System.currentTimeMillis() + refreshAheadMillis >= expiresAt) {
+            refresh();
+        }
+    }
+    
+    private void refresh() {
+        try {
+            googlePublicKeysManager.refresh();
+            log.info("구글 공개키 갱신 완료: keys={}, expiresAt={}",
+                    googlePublicKeysManager.getPublicKeys().size(),
+                    googlePublicKeysManager.getExpirationTimeMilliseconds());
+        } catch (Exception e) {
+            log.warn("구글 공개키 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.pnu.basketball.service.auth;
+
+import com.pnu.basketball.domain.LoginType;
+import com.pnu.basketball.repository.LoginHistory;
+import com.pnu.basketball.repository.LoginHistoryRepository;
+import com.pnu.basketball.util.BatchingWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 기록 write-behind 저장.
+ * 인증 서비스는 고정 크기 버퍼(ArrayBlockingQueue, 배열 기반 링 버퍼)에 기록만 넣고 바로 응답하며,
+ * 전용 스레드가 batch-size개가 모이거나 첫 기록 후 flush-interval이 지나면 한 번에 배치 INSERT한다 (공통 동작은 BatchingWriter).
+ *
+ * 버퍼가 가득 찼을 때 (overflow-policy):
+ * - DROP: 기다리지 않고 버린 뒤 login_history.dropped로 집계한다 (기본값, 요청 지연 없음).
+ * - BLOCK: 자리가 날 때까지 최대 block-timeout 동안 기다리고, 그래도 가득 차 있으면 버린다.
+ *   대기 시간은 login_history.blocked로 확인한다.
+ * 로그인 기록은 분석용이므로 DB 장애가 길어지면 요청을 거절하지 않고 기록을 포기한다.
+ * 이메일은 login_history.email 길이(255자)에 맞춰 잘라 저장하고, 그래도 저장할 수 없는 기록은 login_history.rejected로 집계한다.
+ */
+@Component
+public class LoginHistoryWriter {
+    
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+    
+    private static final String METRIC_PREFIX = "login_history";
+    private static final int EMAIL_MAX_LENGTH = 255;
+    
+    private final BatchingWriter<LoginHistory> writer;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    
+    private final Counter droppedCounter;
+    private final Timer blockedTimer;
+    
+    public LoginHistoryWriter(LoginHistoryRepository loginHistoryRepository,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${login-history.buffer-capacity}") int bufferCapacity,
+                              @Value("${login-history.overflow-policy}") OverflowPolicy overflowPolicy,
+                              @Value("${login-history.block-timeout}") long blockTimeoutMillis,
+                              @Value("${login-history.batch-size}") int batchSize,
+                              @Value("${login-history.flush-interval}") long flushIntervalMillis,
+                              @Value("${login-history.shutdown-timeout}") long shutdownTimeoutMillis) {
+        this.writer = new BatchingWriter<>("login-history-writer", METRIC_PREFIX, "로그인 기록",
+                loginHistoryRepository::insertAll, entry -> {
+                },
+                transactionTemplate, meterRegistry,
+                bufferCapacity, batchSize, flushIntervalMillis, shutdownTimeoutMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("버퍼가 가득 차 버린 로그인 기록 수")
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+        this.blockedTimer = Timer.builder(METRIC_PREFIX + ".blocked")
+                .description("BLOCK 정책에서 버퍼 자리를 기다린 시간")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+    
+    /**
+     * 현재 요청의 IP와 시각으로 로그인 시도를 기록한다. DB에 접근하지 않으며 실패해도 예외를 던지지 않는다.
+     */
+    public void record(Long userId, String email, LoginType loginType, String outcome) {
+        LoginHistory entry = new LoginHistory(userId, truncate(email), loginType, currentClientIp(), outcome,
+                LocalDateTime.now());
+        if (writer.offer(entry)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK && offerWaiting(entry)) {
+            return;
+        }
+        droppedCounter.increment();
+    }
+    
+    private boolean offerWaiting(LoginHistory entry) {
+        long startedAt = System.nanoTime();
+        try {
+            return writer.offer(entry, blockTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            blockedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    // @Email은 320자까지 허용하지만 컬럼은 255자이므로, 긴 이메일 시도도 기록이 남도록 자른다
+    private static String truncate(String email) {
+        if (email == null || email.length() <= EMAIL_MAX_LENGTH) {
+            return email;
+        }
+        return email.substring(0, EMAIL_MAX_LENGTH);
+    }
+    
+    private static String currentClientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+    }
+}
@@ -0,0 +1,148 @@
+package com.pnu.basketball.service.auth;
+
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱/검증을 요청 스레드가 아닌 전용 스레드 풀에서 수행한다.
+ * 대기열이 가득 차거나 대기 시간이 초과되면 즉시 AUTH_SERVER_BUSY(503)로 실패시켜 다른 API가 굶지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+    
+    private static final String METRIC_PREFIX = "password_hashing";
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    
+    private final Timer encodeWaitTimer;
+    private final Timer matchesWaitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password-hashing.pool-size:0}") int poolSize,
+                          @Value("${password-hashing.queue-capacity}") int queueCapacity,
+                          @Value("${password-hashing.max-wait}") long maxWaitMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitMillis = maxWaitMillis;
+        
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HasherThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        
+        this.encodeWaitTimer = waitTimer(meterRegistry, "encode");
+        this.matchesWaitTimer = waitTimer(meterRegistry, "matches");
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열 초과/대기 시간 초과로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .description("해싱 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+    
+    public String encode(String rawPassword) {
+        return execute(encodeWaitTimer, encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+    
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchesWaitTimer, matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    private <T> T execute(Timer waitTimer, Timer hashTimer, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.AUTH_SERVER_BUSY);
+        }
+        
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.AUTH_SERVER_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.AUTH_SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    private static Timer waitTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(METRIC_PREFIX + ".wait")
+                .description("해싱 작업이 대기열에서 기다린 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+    
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(METRIC_PREFIX + ".duration")
+                .description("BCrypt 연산 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+    
+    private static class HasherThreadFactory implements ThreadFactory {
+        
+        private final AtomicInteger sequence = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
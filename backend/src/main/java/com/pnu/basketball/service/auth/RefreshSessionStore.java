@@ -0,0 +1,189 @@
+package com.pnu.basketball.service.auth;
+
+import com.pnu.basketball.domain.User;
+import com.pnu.basketball.service.user.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh 세션 저장소 (기기별 세션).
+ * refresh_session:{userId}:{sessionId} 해시에 토큰 해시와 Access Token 발급에 필요한 클레임 스냅샷을 저장하여
+ * 토큰 갱신이 Redis 1회 조회로 끝나도록 한다. refresh_sessions:{userId} 집합은 사용자별 세션 목록이다.
+ * 스냅샷 무효화마다 gen 필드를 올리고, 스냅샷 재기록은 조회 시점의 gen이 그대로일 때만 한다
+ * (DB에서 읽은 뒤 프로필이 바뀌었으면 이전 값으로 덮어쓰지 않음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshSessionStore {
+    
+    private static final String SESSION_PREFIX = "refresh_session:";
+    private static final String SESSION_INDEX_PREFIX = "refresh_sessions:";
+    
+    private static final String FIELD_TOKEN_HASH = "tokenHash";
+    private static final String FIELD_EMAIL = "email";
+    private static final String FIELD_NICKNAME = "nickname";
+    private static final String FIELD_LOGIN_TYPE = "loginType";
+    private static final String FIELD_GENERATION = "gen";
+    
+    // 세션이 있고 조회 이후 무효화되지 않았을 때만 스냅샷 기록 (HSET은 TTL을 유지한다)
+    private static final RedisScript<Long> UPDATE_SNAPSHOT_IF_CURRENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 or (redis.call('HGET', KEYS[1], 'gen') or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('HSET', KEYS[1], 'email', ARGV[2], 'nickname', ARGV[3], 'loginType', ARGV[4]) return 1",
+            Long.class);
+    
+    // 세션이 있을 때만 스냅샷을 지우고 gen을 올린다 (만료된 세션을 TTL 없는 키로 되살리지 않도록)
+    private static final RedisScript<Long> INVALIDATE_SNAPSHOT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "redis.call('HDEL', KEYS[1], 'email', 'nickname', 'loginType') "
+                    + "return redis.call('HINCRBY', KEYS[1], 'gen', 1)",
+            Long.class);
+    
+    // 세션 목록에서 만료된 세션 ID 제거 (ARGV[1]: 세션 키 접두사)
+    private static final RedisScript<Long> PRUNE_INDEX = new DefaultRedisScript<>(
+            "local removed = 0 "
+                    + "for _, sid in ipairs(redis.call('SMEMBERS', KEYS[1])) do "
+                    + "if redis.call('EXISTS', ARGV[1] .. sid) == 0 then redis.call('SREM', KEYS[1], sid) removed = removed + 1 end "
+                    + "end return removed",
+            Long.class);
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    
+    @Value("${jwt.refresh-token-expiration}")
+    private Long refreshTokenExpiration;
+    
+    public void create(User user, String sessionId, String refreshToken) {
+        String sessionKey = sessionKey(user.getUserId(), sessionId);
+        String indexKey = SESSION_INDEX_PREFIX + user.getUserId();
+        
+        Map<String, String> fields = new HashMap<>(snapshotFields(user));
+        fields.put(FIELD_TOKEN_HASH, hash(refreshToken));
+        
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForHash().putAll(sessionKey, fields);
+                operations.expire(sessionKey, refreshTokenExpiration, TimeUnit.MILLISECONDS);
+                operations.opsForSet().add(indexKey, sessionId);
+                operations.expire(indexKey, refreshTokenExpiration, TimeUnit.MILLISECONDS);
+                // 로그인마다 만료된 기기 세션을 목록에서 정리해 집합이 계속 커지지 않도록 한다
+                operations.execute(PRUNE_INDEX, List.of(indexKey), sessionKeyPrefix(user.getUserId()));
+                return null;
+            }
+        });
+    }
+    
+    public Optional<RefreshSession> find(Long userId, String sessionId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(sessionKey(userId, sessionId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        ClaimsSnapshot snapshot = null;
+        if (fields.containsKey(FIELD_EMAIL) && fields.containsKey(FIELD_NICKNAME) && fields.containsKey(FIELD_LOGIN_TYPE)) {
+            snapshot = new ClaimsSnapshot(
+                    (String) fields.get(FIELD_EMAIL),
+                    (String) fields.get(FIELD_NICKNAME),
+                    (String) fields.get(FIELD_LOGIN_TYPE)
+            );
+        }
+        String generation = (String) fields.getOrDefault(FIELD_GENERATION, "0");
+        return Optional.of(new RefreshSession((String) fields.get(FIELD_TOKEN_HASH), snapshot, generation));
+    }
+    
+    /**
+     * 세션이 남아 있고 session을 조회한 뒤 무효화되지 않았을 때만 스냅샷을 기록한다 (확인과 기록은 한 스크립트로 원자적).
+     */
+    public void updateSnapshot(User user, String sessionId, RefreshSession session) {
+        redisTemplate.execute(UPDATE_SNAPSHOT_IF_CURRENT, List.of(sessionKey(user.getUserId(), sessionId)),
+                session.generation(), user.getEmail(), user.getNickname(), user.getLoginType().name());
+    }
+    
+    public void delete(Long userId, String sessionId) {
+        redisTemplate.delete(sessionKey(userId, sessionId));
+        redisTemplate.opsForSet().remove(SESSION_INDEX_PREFIX + userId, sessionId);
+    }
+    
+    public boolean matches(RefreshSession session, String refreshToken) {
+        return session.tokenHash() != null
+                && MessageDigest.isEqual(
+                        session.tokenHash().getBytes(StandardCharsets.US_ASCII),
+                        hash(refreshToken).getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    /**
+     * 프로필 변경 시 모든 기기 세션의 스냅샷을 제거한다. 세션은 유지되며, 다음 갱신 시 DB에서 다시 채운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        String indexKey = SESSION_INDEX_PREFIX + event.userId();
+        Set<String> sessionIds = redisTemplate.opsForSet().members(indexKey);
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return;
+        }
+        
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (String sessionId : sessionIds) {
+                    operations.execute(INVALIDATE_SNAPSHOT, List.of(sessionKey(event.userId(), sessionId)));
+                }
+                return null;
+            }
+        });
+        log.debug("Refresh 세션 스냅샷 무효화: userId={}, sessions={}", event.userId(), sessionIds.size());
+    }
+    
+    private static String sessionKey(Long userId, String sessionId) {
+        return sessionKeyPrefix(userId) + sessionId;
+    }
+    
+    private static String sessionKeyPrefix(Long userId) {
+        return SESSION_PREFIX + userId + ":";
+    }
+    
+    private static Map<String, String> snapshotFields(User user) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_EMAIL, user.getEmail());
+        fields.put(FIELD_NICKNAME, user.getNickname());
+        fields.put(FIELD_LOGIN_TYPE, user.getLoginType().name());
+        return fields;
+    }
+    
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    public record RefreshSession(String tokenHash, ClaimsSnapshot snapshot, String generation) {
+    }
+    
+    public record ClaimsSnapshot(String email, String nickname, String loginType) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.pnu.basketball.service.chat;
+
+import com.pnu.basketball.repository.ChatMessage;
+import com.pnu.basketball.repository.ChatMessageRepository;
+import com.pnu.basketball.util.BatchingWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 write-behind 저장.
+ * 메시지는 메모리 대기열에 들어간 뒤 바로 전달되고, 전용 스레드가 batch-size개가 모이거나
+ * 첫 메시지 후 flush-interval이 지나면 한 번에 배치 INSERT한다 (공통 동작은 BatchingWriter).
+ *
+ * 내구성:
+ * - 정상 종료 시에는 shutdown-timeout 안에서 대기열을 모두 저장한다.
+ * - 프로세스가 비정상 종료되면 아직 저장되지 않은 메시지(최대 flush-interval + 대기열 적재분)는 유실된다.
+ * - DB 장애 중에는 같은 배치를 재시도하고(중복은 무시), 대기열이 가득 차면 offer가 false를 반환해 전송을 거절한다.
+ * - 재시도해도 저장할 수 없는 메시지는 해당 메시지만 버리고 chat.persist.rejected로 집계한다.
+ * - 히스토리 조회는 저장된 메시지만 보므로 최근 flush-interval 이내 메시지는 실시간 구독으로만 받는다.
+ */
+@Component
+public class ChatMessageWriter {
+    
+    private static final String METRIC_PREFIX = "chat.persist";
+    
+    private final BatchingWriter<ChatMessage> writer;
+    
+    public ChatMessageWriter(ChatMessageRepository chatMessageRepository,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.write-behind.queue-capacity}") int queueCapacity,
+                             @Value("${chat.write-behind.batch-size}") int batchSize,
+                             @Value("${chat.write-behind.flush-interval}") long flushIntervalMillis,
+                             @Value("${chat.write-behind.shutdown-timeout}") long shutdownTimeoutMillis) {
+        this.writer = new BatchingWriter<>("chat-message-writer", METRIC_PREFIX, "채팅 메시지",
+                chatMessageRepository::insertAll, message -> {
+                },
+                transactionTemplate, meterRegistry,
+                queueCapacity, batchSize, flushIntervalMillis, shutdownTimeoutMillis);
+    }
+    
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+    
+    public boolean offer(ChatMessage message) {
+        return writer.offer(message);
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+    }
+}
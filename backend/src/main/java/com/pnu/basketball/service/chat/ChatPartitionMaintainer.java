@@ -0,0 +1,44 @@
+package com.pnu.basketball.service.chat;
+
+import com.pnu.basketball.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * chat_messages 월별 파티션을 미리 만든다 (이번 달 + months-ahead개월).
+ * 파티션이 없으면 기본 파티션(chat_messages_default)에 쌓이므로 기동 시와 매일 확인한다.
+ */
+@Slf4j
+@Component
+public class ChatPartitionMaintainer {
+    
+    private final ChatMessageRepository chatMessageRepository;
+    private final int monthsAhead;
+    
+    public ChatPartitionMaintainer(ChatMessageRepository chatMessageRepository,
+                                   @Value("${chat.partitions.months-ahead}") int monthsAhead) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.monthsAhead = monthsAhead;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${chat.partitions.check-cron}")
+    public void ensurePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                chatMessageRepository.createMonthlyPartition(month);
+            } catch (DataAccessException e) {
+                log.warn("채팅 파티션 생성 실패: month={}, {}", month, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.pnu.basketball.service.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.dto.response.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 여러 백엔드 노드에 걸친 채팅방을 위한 Redis pub/sub 중계.
+ * 보낸 노드는 로컬 구독자에게 바로 전달하고, 다른 노드는 이 채널로 받아 자신의 구독자에게 전달한다.
+ * Redis 장애 시에도 같은 노드의 구독자에게는 전달된다.
+ */
+@Slf4j
+@Component
+public class ChatRelay {
+    
+    private static final String CHANNEL = "chat_room";
+    private static final String METRIC_PREFIX = "chat.relay";
+    
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failureCounter;
+    
+    public ChatRelay(RedisTemplate<String, String> redisTemplate,
+                     RedisMessageListenerContainer redisMessageListenerContainer,
+                     ObjectMapper objectMapper,
+                     ChatRoomBroadcaster chatRoomBroadcaster,
+                     MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.publishedCounter = Counter.builder(METRIC_PREFIX + ".messages")
+                .tag("direction", "published")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder(METRIC_PREFIX + ".messages")
+                .tag("direction", "received")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder(METRIC_PREFIX + ".failures")
+                .description("Redis 발행 실패 수 (로컬 구독자에게는 전달됨)")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+    
+    public void publish(ChatMessageResponse message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new RelayedMessage(nodeId, message)));
+            publishedCounter.increment();
+        } catch (DataAccessException | JsonProcessingException e) {
+            failureCounter.increment();
+            log.warn("채팅 메시지 중계 실패: matchId={}, {}", message.getMatchId(), e.getMessage());
+        }
+    }
+    
+    private void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayedMessage relayed = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), RelayedMessage.class);
+            if (nodeId.equals(relayed.nodeId())) {
+                return;
+            }
+            receivedCounter.increment();
+            chatRoomBroadcaster.enqueue(relayed.message());
+        } catch (IOException e) {
+            log.warn("채팅 중계 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+    
+    private record RelayedMessage(String nodeId, ChatMessageResponse message) {
+    }
+}
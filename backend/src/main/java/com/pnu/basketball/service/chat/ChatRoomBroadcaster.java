@@ -0,0 +1,146 @@
+package com.pnu.basketball.service.chat;
+
+import com.pnu.basketball.dto.response.ChatMessageResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 메시지 묶음 전송.
+ * 메시지를 방별 대기열에 모았다가 flush-interval마다 한 STOMP 프레임(메시지 배열)으로 방 구독자에게 보낸다.
+ * 활발한 방에서 구독자당 전송 횟수가 메시지 수가 아닌 flush 횟수에 비례하게 된다.
+ * 구독자별 전송은 clientOutboundChannel 스레드에서 세션 버퍼 한도 안에서 이루어진다 (WebSocketConfig).
+ */
+@Slf4j
+@Component
+public class ChatRoomBroadcaster {
+    
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/matches/";
+    private static final String ROOM_DESTINATION_SUFFIX = "/chat";
+    private static final String METRIC_PREFIX = "chat.fanout";
+    
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long flushIntervalMillis;
+    private final int maxBatchSize;
+    private final Map<Long, Queue<ChatMessageResponse>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-fanout");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    
+    public ChatRoomBroadcaster(SimpMessagingTemplate messagingTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${chat.fan-out.flush-interval}") long flushIntervalMillis,
+                               @Value("${chat.fan-out.max-batch-size}") int maxBatchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("전체 방의 대기 메시지를 전송하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("프레임당 메시지 수")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    public static String roomDestination(long matchId) {
+        return ROOM_DESTINATION_PREFIX + matchId + ROOM_DESTINATION_SUFFIX;
+    }
+    
+    /**
+     * @return 채팅방 목적지가 아니면 null
+     */
+    public static Long parseRoomDestination(String destination) {
+        if (destination == null
+                || !destination.startsWith(ROOM_DESTINATION_PREFIX)
+                || !destination.endsWith(ROOM_DESTINATION_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(
+                    ROOM_DESTINATION_PREFIX.length(), destination.length() - ROOM_DESTINATION_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    public void enqueue(ChatMessageResponse message) {
+        // 빈 대기열 제거(flush)와 경쟁하지 않도록 같은 버킷 락 안에서 추가
+        pending.compute(message.getMatchId(), (matchId, queue) -> {
+            Queue<ChatMessageResponse> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+            target.add(message);
+            return target;
+        });
+    }
+    
+    private void flush() {
+        long startedAt = System.nanoTime();
+        boolean sent = false;
+        for (Long matchId : pending.keySet()) {
+            Queue<ChatMessageResponse> queue = pending.computeIfPresent(matchId, (id, q) -> q.isEmpty() ? null : q);
+            if (queue == null) {
+                continue;
+            }
+            sent = true;
+            try {
+                send(matchId, queue);
+            } catch (MessagingException e) {
+                log.warn("채팅 메시지 전송 실패: matchId={}, {}", matchId, e.getMessage());
+            }
+        }
+        if (sent) {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private void send(long matchId, Queue<ChatMessageResponse> queue) {
+        List<ChatMessageResponse> batch = new ArrayList<>(Math.min(maxBatchSize, 16));
+        ChatMessageResponse message;
+        while ((message = queue.poll()) != null) {
+            batch.add(message);
+            if (batch.size() == maxBatchSize) {
+                publish(matchId, batch);
+                batch = new ArrayList<>(Math.min(maxBatchSize, 16));
+            }
+        }
+        if (!batch.isEmpty()) {
+            publish(matchId, batch);
+        }
+    }
+    
+    private void publish(long matchId, List<ChatMessageResponse> batch) {
+        messagingTemplate.convertAndSend(roomDestination(matchId), batch);
+        batchSizeSummary.record(batch.size());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+    }
+}
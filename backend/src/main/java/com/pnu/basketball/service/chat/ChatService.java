@@ -0,0 +1,9 @@
+package com.pnu.basketball.service.chat;
+
+import com.pnu.basketball.dto.response.ChatHistoryResponse;
+import com.pnu.basketball.dto.response.ChatMessageResponse;
+
+public interface ChatService {
+    ChatMessageResponse send(Long matchId, Long userId, String content);
+    ChatHistoryResponse getHistory(Long matchId, Long userId, Long before, int size);
+}
@@ -0,0 +1,68 @@
+package com.pnu.basketball.service.chat;
+
+import com.pnu.basketball.dto.response.ChatHistoryResponse;
+import com.pnu.basketball.dto.response.ChatMessageResponse;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.ChatMessage;
+import com.pnu.basketball.repository.ChatMessageRepository;
+import com.pnu.basketball.service.match.MatchLobby;
+import com.pnu.basketball.util.SnowflakeIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ChatServiceImpl implements ChatService {
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    private final MatchLobby matchLobby;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ChatRelay chatRelay;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatMessageRepository chatMessageRepository;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    
+    @Override
+    public ChatMessageResponse send(Long matchId, Long userId, String content) {
+        checkParticipant(matchId, userId);
+        
+        long messageId = snowflakeIdGenerator.nextId();
+        ChatMessage message = new ChatMessage(messageId, matchId, userId, content, SnowflakeIdGenerator.timestamp(messageId));
+        if (!chatMessageWriter.offer(message)) {
+            throw new CustomException(ErrorCode.CHAT_BUSY);
+        }
+        
+        ChatMessageResponse response = ChatMessageResponse.from(message);
+        chatRoomBroadcaster.enqueue(response);
+        chatRelay.publish(response);
+        return response;
+    }
+    
+    @Override
+    public ChatHistoryResponse getHistory(Long matchId, Long userId, Long before, int size) {
+        checkParticipant(matchId, userId);
+        
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 조회해 다음 페이지 존재 여부를 판단
+        List<ChatMessage> page = chatMessageRepository.findPage(
+                matchId, before, before != null ? SnowflakeIdGenerator.timestamp(before) : null, pageSize + 1);
+        boolean hasMore = page.size() > pageSize;
+        List<ChatMessage> messages = hasMore ? page.subList(0, pageSize) : page;
+        
+        return ChatHistoryResponse.builder()
+                .messages(messages.stream().map(ChatMessageResponse::from).toList())
+                .nextCursor(hasMore ? messages.get(messages.size() - 1).messageId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+    
+    private void checkParticipant(Long matchId, Long userId) {
+        if (!matchLobby.isParticipant(matchId, userId)) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_FORBIDDEN);
+        }
+    }
+}
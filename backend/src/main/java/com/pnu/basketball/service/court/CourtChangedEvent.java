@@ -0,0 +1,7 @@
+package com.pnu.basketball.service.court;
+
+/**
+ * 농구장이 등록되거나 위치가 변경되었음을 알리는 이벤트. 트랜잭션 커밋 이후 공간 인덱스에 반영한다.
+ */
+public record CourtChangedEvent(Long courtId, double latitude, double longitude) {
+}
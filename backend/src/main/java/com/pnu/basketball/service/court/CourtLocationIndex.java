@@ -0,0 +1,129 @@
+package com.pnu.basketball.service.court;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.repository.CourtLocation;
+import com.pnu.basketball.repository.CourtRepository;
+import com.pnu.basketball.util.GeoGridIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 농구장 위치 인메모리 공간 인덱스 (격자).
+ * 기동 시 courts 테이블의 좌표만 읽어 구축하고, 등록/위치 변경은 Redis pub/sub으로 모든 노드에 전파된다.
+ * 구축이 끝나기 전에는 isReady()가 false이며, 호출 측은 경계 상자 SQL로 대체한다.
+ */
+@Slf4j
+@Component
+public class CourtLocationIndex {
+    
+    private static final String CHANNEL = "court_location";
+    private static final String METRIC_PREFIX = "court_index";
+    
+    private final CourtRepository courtRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final GeoGridIndex index;
+    
+    private volatile boolean ready;
+    
+    public CourtLocationIndex(CourtRepository courtRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${court.spatial-index.enabled:true}") boolean enabled,
+                              @Value("${court.spatial-index.cell-size-degrees}") double cellSizeDegrees) {
+        this.courtRepository = courtRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.index = new GeoGridIndex(cellSizeDegrees);
+    }
+    
+    @PostConstruct
+    public void init() {
+        Gauge.builder(METRIC_PREFIX + ".size", index, GeoGridIndex::size)
+                .description("공간 인덱스에 등록된 농구장 수")
+                .register(meterRegistry);
+        
+        // 구축 중 다른 노드에서 변경된 위치를 놓치지 않도록 구독을 먼저 시작
+        redisMessageListenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            log.info("농구장 공간 인덱스 비활성화: 반경 검색은 경계 상자 SQL로 처리");
+            return;
+        }
+        
+        long startedAt = System.nanoTime();
+        List<CourtLocation> locations = courtRepository.findAllLocations();
+        for (CourtLocation location : locations) {
+            // 구축 중 수신한 변경이 더 최신이므로 덮어쓰지 않는다
+            index.putIfAbsent(location.courtId(), location.latitude(), location.longitude());
+        }
+        ready = true;
+        
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Timer.builder(METRIC_PREFIX + ".build")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("농구장 공간 인덱스 구축 완료: courts={}, elapsed={}ms", index.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public List<GeoGridIndex.Hit> search(double latitude, double longitude, double radiusMeters, int limit) {
+        return index.search(latitude, longitude, radiusMeters, limit);
+    }
+    
+    /**
+     * 농구장 등록/위치 변경이 커밋된 뒤 로컬 인덱스에 반영하고 다른 노드에 전파한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(CourtChangedEvent event) {
+        index.put(event.courtId(), event.latitude(), event.longitude());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("농구장 위치 전파 실패: courtId={}, {}", event.courtId(), e.getMessage());
+        }
+    }
+    
+    private void onMessage(Message message, byte[] pattern) {
+        try {
+            CourtChangedEvent event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CourtChangedEvent.class);
+            index.put(event.courtId(), event.latitude(), event.longitude());
+        } catch (IOException e) {
+            log.warn("농구장 위치 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.pnu.basketball.service.court;
+
+import com.pnu.basketball.dto.request.CourtRequest;
+import com.pnu.basketball.dto.response.CourtResponse;
+
+import java.util.List;
+
+public interface CourtService {
+    CourtResponse createCourt(Long userId, CourtRequest request);
+    CourtResponse updateCourt(Long courtId, CourtRequest request);
+    CourtResponse getCourt(Long courtId);
+    List<CourtResponse> findNearbyCourts(double latitude, double longitude, int radiusMeters, int limit);
+}
@@ -0,0 +1,145 @@
+package com.pnu.basketball.service.court;
+
+import com.pnu.basketball.domain.Court;
+import com.pnu.basketball.dto.request.CourtRequest;
+import com.pnu.basketball.dto.response.CourtResponse;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.CourtRepository;
+import com.pnu.basketball.util.GeoGridIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourtServiceImpl implements CourtService {
+    
+    private static final int MAX_RADIUS_METERS = 10_000;
+    private static final int MAX_LIMIT = 100;
+    
+    private final CourtRepository courtRepository;
+    private final CourtLocationIndex courtLocationIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    
+    @Override
+    @Transactional
+    public CourtResponse createCourt(Long userId, CourtRequest request) {
+        Court court = courtRepository.save(Court.builder()
+                .name(request.getName())
+                .address(request.getAddress())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .hoopCount(request.getHoopCount())
+                .floorType(request.getFloorType())
+                .indoor(Boolean.TRUE.equals(request.getIndoor()))
+                .createdBy(userId)
+                .build());
+        eventPublisher.publishEvent(new CourtChangedEvent(court.getCourtId(), court.getLatitude(), court.getLongitude()));
+        
+        log.info("농구장 등록: courtId={}, name={}, userId={}", court.getCourtId(), court.getName(), userId);
+        return CourtResponse.from(court, null);
+    }
+    
+    @Override
+    @Transactional
+    public CourtResponse updateCourt(Long courtId, CourtRequest request) {
+        Court court = courtRepository.findById(courtId)
+                .orElseThrow(() -> new CustomException(ErrorCode.COURT_NOT_FOUND));
+        court.update(
+                request.getName(),
+                request.getAddress(),
+                request.getLatitude(),
+                request.getLongitude(),
+                request.getHoopCount(),
+                request.getFloorType(),
+                Boolean.TRUE.equals(request.getIndoor())
+        );
+        eventPublisher.publishEvent(new CourtChangedEvent(court.getCourtId(), court.getLatitude(), court.getLongitude()));
+        return CourtResponse.from(court, null);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CourtResponse getCourt(Long courtId) {
+        Court court = courtRepository.findById(courtId)
+                .orElseThrow(() -> new CustomException(ErrorCode.COURT_NOT_FOUND));
+        return CourtResponse.from(court, null);
+    }
+    
+    /**
+     * 반경 검색. 공간 인덱스로 후보 ID를 구한 뒤 기본 키로만 조회하며,
+     * 인덱스가 준비되지 않았으면 (latitude, longitude) 인덱스를 타는 경계 상자 SQL로 대체한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourtResponse> findNearbyCourts(double latitude, double longitude, int radiusMeters, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 좌표입니다.");
+        }
+        int radius = Math.max(1, Math.min(radiusMeters, MAX_RADIUS_METERS));
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        
+        long startedAt = System.nanoTime();
+        boolean useIndex = courtLocationIndex.isReady();
+        List<CourtResponse> courts = useIndex
+                ? searchIndex(latitude, longitude, radius, size)
+                : searchBoundingBox(latitude, longitude, radius, size);
+        Timer.builder("court.nearby.search")
+                .description("농구장 반경 검색 시간")
+                .tag("source", useIndex ? "index" : "sql")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return courts;
+    }
+    
+    private List<CourtResponse> searchIndex(double latitude, double longitude, int radius, int size) {
+        List<GeoGridIndex.Hit> hits = courtLocationIndex.search(latitude, longitude, radius, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Court> courts = courtRepository.findAllById(hits.stream().map(GeoGridIndex.Hit::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Court::getCourtId, Function.identity()));
+        
+        List<CourtResponse> responses = new ArrayList<>(hits.size());
+        for (GeoGridIndex.Hit hit : hits) {
+            Court court = courts.get(hit.id());
+            if (court != null) {
+                responses.add(CourtResponse.from(court, hit.distanceMeters()));
+            }
+        }
+        return responses;
+    }
+    
+    private List<CourtResponse> searchBoundingBox(double latitude, double longitude, int radius, int size) {
+        double latitudeDelta = GeoGridIndex.latitudeDelta(radius);
+        double longitudeDelta = GeoGridIndex.longitudeDelta(latitude, radius);
+        
+        return courtRepository.findInBoundingBox(
+                        latitude - latitudeDelta, latitude + latitudeDelta,
+                        longitude - longitudeDelta, longitude + longitudeDelta)
+                .stream()
+                .map(court -> CourtResponse.from(court,
+                        GeoGridIndex.distanceMeters(latitude, longitude, court.getLatitude(), court.getLongitude())))
+                .filter(court -> court.getDistanceMeters() <= radius)
+                .sorted(Comparator.comparingDouble(CourtResponse::getDistanceMeters))
+                .limit(size)
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.pnu.basketball.service.match;
+
+import java.util.List;
+
+/**
+ * 경기 명단 스냅샷 (참가 순서대로)
+ */
+public record LobbyState(long matchId, int capacity, List<Long> participantIds) {
+    
+    public int participantCount() {
+        return participantIds.size();
+    }
+}
@@ -0,0 +1,14 @@
+package com.pnu.basketball.service.match;
+
+/**
+ * 지도에 보이는 경기 상태가 바뀌었음을 알리는 이벤트 (뷰포트 구독자에게 변경분으로 전달된다).
+ */
+public record MatchChangedEvent(long matchId, Type type) {
+    
+    public enum Type {
+        CREATED,
+        FILLED,     // 마지막 자리가 찼다
+        REOPENED,   // 가득 찬 경기에서 참가 취소가 나와 다시 자리가 생겼다
+        CANCELLED
+    }
+}
@@ -0,0 +1,66 @@
+package com.pnu.basketball.service.match;
+
+import com.pnu.basketball.repository.MatchParticipantEvent;
+import com.pnu.basketball.repository.MatchParticipantEventRepository;
+import com.pnu.basketball.util.BatchingWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+/**
+ * 경기 참가 이벤트 write-behind 저장.
+ * MatchLobby가 메모리에서 응답한 뒤 대기열에 넣고, 전용 스레드 하나가 쌓인 만큼 묶어 배치 INSERT한다 (공통 동작은 BatchingWriter).
+ * 이전 배치를 저장하는 동안 들어온 이벤트가 다음 배치가 되므로, 부하가 클수록 배치가 커진다 (flush-interval 없음).
+ * DB 장애 시에는 같은 배치를 재시도하며(이미 저장된 이벤트는 event_id로 무시), 대기열이 가득 차면 offer가 false를 반환한다.
+ * 다른 이벤트와 sequence가 겹쳐 저장할 수 없는 이벤트는 버리고 onRejected로 등록한 쪽(MatchLobby)에 알린다.
+ */
+@Component
+public class MatchEventWriter {
+    
+    private static final String METRIC_PREFIX = "match_events";
+    
+    private final BatchingWriter<MatchParticipantEvent> writer;
+    private volatile Consumer<MatchParticipantEvent> rejectionListener = event -> {
+    };
+    
+    public MatchEventWriter(MatchParticipantEventRepository eventRepository,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${match-lobby.write-behind.queue-capacity}") int queueCapacity,
+                            @Value("${match-lobby.write-behind.batch-size}") int batchSize,
+                            @Value("${match-lobby.write-behind.shutdown-timeout}") long shutdownTimeoutMillis) {
+        this.writer = new BatchingWriter<>("match-event-writer", METRIC_PREFIX, "참가 이벤트",
+                eventRepository::insertAll, event -> rejectionListener.accept(event),
+                transactionTemplate, meterRegistry,
+                queueCapacity, batchSize, 0, shutdownTimeoutMillis);
+    }
+    
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+    
+    /**
+     * 이벤트를 저장 대기열에 넣는다. 경기별 순서를 지키려면 해당 경기의 락을 잡은 상태에서 호출해야 한다.
+     */
+    public boolean offer(MatchParticipantEvent event) {
+        return writer.offer(event);
+    }
+    
+    /**
+     * 저장할 수 없어 버린 이벤트를 받을 콜백을 등록한다 (저장 스레드에서 호출됨).
+     */
+    public void onRejected(Consumer<MatchParticipantEvent> listener) {
+        this.rejectionListener = listener;
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+    }
+}
@@ -0,0 +1,305 @@
+package com.pnu.basketball.service.match;
+
+import com.pnu.basketball.domain.ParticipantAction;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.MatchParticipantEvent;
+import com.pnu.basketball.util.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경기별 참가자 명단을 메모리에서 관리한다.
+ * 참가/취소는 경기 ID로 고른 스트라이프 락 안에서 정원 검사와 반영을 한 번에 처리하므로 초과 모집이 없고,
+ * 서로 다른 경기끼리는 대부분 다른 락을 쓰므로 DB 행 락처럼 직렬화되지 않는다.
+ * 응답은 메모리 반영 직후 반환하고, 이벤트는 MatchEventWriter가 비동기로 저장한다.
+ * 정원이 차거나 다시 빈 경우 락을 놓은 뒤 MatchChangedEvent를 발행한다.
+ * 명단의 기준은 이 노드의 메모리이므로, 여러 노드로 확장할 때는 경기 ID 기준으로 요청을 한 노드에 보내야 한다.
+ * 라우팅이 어긋나 두 노드가 같은 sequence를 저장하려 하면 늦은 쪽 이벤트는 저장에 실패하고,
+ * 그 노드는 명단을 버려 다음 요청에서 저장된 이벤트로 다시 복구한다 (match_lobby.conflicts로 집계).
+ */
+@Slf4j
+@Component
+public class MatchLobby {
+    
+    private static final String METRIC_PREFIX = "match_lobby";
+    
+    private final MatchRosterLoader rosterLoader;
+    private final MatchEventWriter eventWriter;
+    private final SnowflakeIdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock[] locks;
+    private final Duration evictAfterStart;
+    private final Map<Long, MatchRoster> rosters = new ConcurrentHashMap<>();
+    
+    private final Counter joinedCounter;
+    private final Counter fullCounter;
+    private final Counter leftCounter;
+    private final Counter busyCounter;
+    private final Counter conflictCounter;
+    
+    public MatchLobby(MatchRosterLoader rosterLoader,
+                      MatchEventWriter eventWriter,
+                      SnowflakeIdGenerator idGenerator,
+                      ApplicationEventPublisher eventPublisher,
+                      MeterRegistry meterRegistry,
+                      @Value("${match-lobby.lock-stripes}") int lockStripes,
+                      @Value("${match-lobby.evict-after-start}") Duration evictAfterStart) {
+        this.rosterLoader = rosterLoader;
+        this.eventWriter = eventWriter;
+        this.idGenerator = idGenerator;
+        this.eventPublisher = eventPublisher;
+        this.evictAfterStart = evictAfterStart;
+        
+        // 2의 거듭제곱으로 올려 비트 마스크로 스트라이프를 고른다
+        int stripes = Integer.highestOneBit(Math.max(lockStripes, 1) * 2 - 1);
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        
+        this.joinedCounter = requestCounter(meterRegistry, "join", "joined");
+        this.fullCounter = requestCounter(meterRegistry, "join", "full");
+        this.leftCounter = requestCounter(meterRegistry, "leave", "left");
+        this.busyCounter = Counter.builder(METRIC_PREFIX + ".busy")
+                .description("저장 대기열이 가득 차 거절된 요청 수")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder(METRIC_PREFIX + ".conflicts")
+                .description("다른 명단의 이벤트와 sequence가 겹쳐 저장하지 못한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".rosters", rosters, Map::size)
+                .description("메모리에 있는 경기 명단 수")
+                .register(meterRegistry);
+        eventWriter.onRejected(this::discard);
+    }
+    
+    /**
+     * 새로 만든 경기의 빈 명단을 등록한다.
+     */
+    public void open(long matchId, int capacity, LocalDateTime startsAt) {
+        rosters.putIfAbsent(matchId, new MatchRoster(matchId, capacity, startsAt));
+    }
+    
+    /**
+     * 참가한다. 이미 참가한 경우 현재 명단을 그대로 반환한다.
+     */
+    public LobbyState join(long matchId, long userId) {
+        MatchRoster roster = roster(matchId);
+        // ID 발급은 동기화되어 있으므로 경기 락 밖에서 미리 받는다
+        long eventId = idGenerator.nextId();
+        ReentrantLock lock = lockFor(matchId);
+        LobbyState state;
+        boolean filled;
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            verifyOpen(roster, now);
+            if (roster.contains(userId)) {
+                return roster.state();
+            }
+            if (roster.isFull()) {
+                fullCounter.increment();
+                throw new CustomException(ErrorCode.MATCH_FULL);
+            }
+            record(roster, roster.apply(eventId, userId, ParticipantAction.JOIN, now));
+            joinedCounter.increment();
+            state = roster.state();
+            filled = roster.isFull();
+        } finally {
+            lock.unlock();
+        }
+        if (filled) {
+            eventPublisher.publishEvent(new MatchChangedEvent(matchId, MatchChangedEvent.Type.FILLED));
+        }
+        return state;
+    }
+    
+    /**
+     * 참가를 취소한다. 참가하지 않은 경우 현재 명단을 그대로 반환한다.
+     */
+    public LobbyState leave(long matchId, long userId) {
+        MatchRoster roster = roster(matchId);
+        long eventId = idGenerator.nextId();
+        ReentrantLock lock = lockFor(matchId);
+        LobbyState state;
+        boolean reopened;
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            verifyOpen(roster, now);
+            if (!roster.contains(userId)) {
+                return roster.state();
+            }
+            boolean wasFull = roster.isFull();
+            record(roster, roster.apply(eventId, userId, ParticipantAction.LEAVE, now));
+            leftCounter.increment();
+            state = roster.state();
+            reopened = wasFull && !roster.isFull();
+        } finally {
+            lock.unlock();
+        }
+        if (reopened) {
+            eventPublisher.publishEvent(new MatchChangedEvent(matchId, MatchChangedEvent.Type.REOPENED));
+        }
+        return state;
+    }
+    
+    /**
+     * 경기를 취소해 이후 참가/취소를 막는다. 저장은 호출한 쪽(MatchService)이 먼저 마친다.
+     */
+    public void cancel(long matchId) {
+        MatchRoster roster = roster(matchId);
+        ReentrantLock lock = lockFor(matchId);
+        lock.lock();
+        try {
+            roster.cancel();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public LobbyState state(long matchId) {
+        MatchRoster roster = roster(matchId);
+        ReentrantLock lock = lockFor(matchId);
+        lock.lock();
+        try {
+            return roster.state();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 경기별 참가 인원. 메모리에 있는 명단은 그대로 읽고, 없는 명단은 복구하지 않고 한 번의 조회로 센다
+     * (지도처럼 많은 경기를 훑는 조회가 명단을 모두 메모리에 올리지 않도록).
+     */
+    public Map<Long, Integer> participantCounts(Collection<Long> matchIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        List<Long> cold = new ArrayList<>();
+        for (Long matchId : matchIds) {
+            MatchRoster roster = rosters.get(matchId);
+            if (roster == null) {
+                cold.add(matchId);
+                continue;
+            }
+            ReentrantLock lock = lockFor(matchId);
+            lock.lock();
+            try {
+                counts.put(matchId, roster.participantCount());
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (!cold.isEmpty()) {
+            Map<Long, Integer> stored = rosterLoader.countParticipants(cold);
+            cold.forEach(matchId -> counts.put(matchId, stored.getOrDefault(matchId, 0)));
+        }
+        return counts;
+    }
+    
+    public boolean isParticipant(long matchId, long userId) {
+        MatchRoster roster = roster(matchId);
+        ReentrantLock lock = lockFor(matchId);
+        lock.lock();
+        try {
+            return roster.contains(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 경기 명단을 메모리에서 내린다. 이후 조회는 저장된 이벤트로 다시 복구된다.
+     */
+    public void evict(long matchId) {
+        ReentrantLock lock = lockFor(matchId);
+        lock.lock();
+        try {
+            rosters.remove(matchId);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 시작 후 일정 시간이 지난 경기 명단을 메모리에서 내린다.
+     * 시작한 경기는 더 이상 변경되지 않고 이벤트도 이미 저장되었으므로, 이후 조회는 로그에서 다시 복구된다.
+     */
+    @Scheduled(fixedDelayString = "${match-lobby.evict-interval}")
+    public void evictFinished() {
+        LocalDateTime threshold = LocalDateTime.now().minus(evictAfterStart);
+        int before = rosters.size();
+        rosters.values().removeIf(roster -> roster.startsAt().isBefore(threshold));
+        int evicted = before - rosters.size();
+        if (evicted > 0) {
+            log.debug("종료된 경기 명단 정리: evicted={}", evicted);
+        }
+    }
+    
+    /**
+     * 저장하지 못한 이벤트의 명단을 메모리에서 내린다. 메모리 명단이 저장된 로그와 달라졌으므로,
+     * 다음 요청에서 저장된 이벤트를 재생해 다시 복구한다. 이미 응답한 해당 참가/취소는 반영되지 않는다.
+     */
+    private void discard(MatchParticipantEvent event) {
+        evict(event.matchId());
+        conflictCounter.increment();
+        log.error("참가 이벤트 저장 실패로 명단을 다시 불러옴: matchId={}, sequence={}, userId={}, action={}",
+                event.matchId(), event.sequence(), event.userId(), event.action());
+    }
+    
+    private static void verifyOpen(MatchRoster roster, LocalDateTime now) {
+        if (roster.isCancelled()) {
+            throw new CustomException(ErrorCode.MATCH_CANCELLED);
+        }
+        if (roster.isStarted(now)) {
+            throw new CustomException(ErrorCode.MATCH_CLOSED);
+        }
+    }
+    
+    private void record(MatchRoster roster, MatchParticipantEvent event) {
+        if (!eventWriter.offer(event)) {
+            roster.revert(event);
+            busyCounter.increment();
+            throw new CustomException(ErrorCode.MATCH_LOBBY_BUSY);
+        }
+    }
+    
+    private MatchRoster roster(long matchId) {
+        MatchRoster roster = rosters.get(matchId);
+        if (roster != null) {
+            return roster;
+        }
+        // DB 조회는 맵 밖에서 하고, 동시에 복구한 경우 먼저 등록된 명단을 사용한다
+        MatchRoster loaded = rosterLoader.load(matchId);
+        MatchRoster existing = rosters.putIfAbsent(matchId, loaded);
+        return existing != null ? existing : loaded;
+    }
+    
+    private ReentrantLock lockFor(long matchId) {
+        int hash = Long.hashCode(matchId);
+        return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+    }
+    
+    private static Counter requestCounter(MeterRegistry meterRegistry, String action, String result) {
+        return Counter.builder(METRIC_PREFIX + ".requests")
+                .tag("action", action)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,97 @@
+package com.pnu.basketball.service.match;
+
+import com.pnu.basketball.domain.ParticipantAction;
+import com.pnu.basketball.repository.MatchParticipantEvent;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 경기 하나의 인메모리 참가자 명단.
+ * 스레드 안전하지 않으며, MatchLobby가 경기별 스트라이프 락을 잡은 상태에서만 접근한다.
+ */
+public class MatchRoster {
+    
+    private final long matchId;
+    private final int capacity;
+    private final LocalDateTime startsAt;
+    private final Set<Long> participants = new LinkedHashSet<>();
+    private long sequence;
+    private boolean cancelled;
+    
+    public MatchRoster(long matchId, int capacity, LocalDateTime startsAt) {
+        this.matchId = matchId;
+        this.capacity = capacity;
+        this.startsAt = startsAt;
+    }
+    
+    /**
+     * 저장된 이벤트를 순서대로 재생한다 (복구용).
+     */
+    public void replay(MatchParticipantEvent event) {
+        if (event.action() == ParticipantAction.JOIN) {
+            participants.add(event.userId());
+        } else {
+            participants.remove(event.userId());
+        }
+        sequence = event.sequence();
+    }
+    
+    boolean isStarted(LocalDateTime now) {
+        return !now.isBefore(startsAt);
+    }
+    
+    boolean isCancelled() {
+        return cancelled;
+    }
+    
+    /**
+     * 취소된 경기는 이후 참가/취소를 받지 않는다.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    boolean isFull() {
+        return participants.size() >= capacity;
+    }
+    
+    boolean contains(long userId) {
+        return participants.contains(userId);
+    }
+    
+    /**
+     * 참가/취소를 반영하고 저장할 이벤트를 만든다. 호출 전에 상태 검사를 마쳐야 한다.
+     */
+    MatchParticipantEvent apply(long eventId, long userId, ParticipantAction action, LocalDateTime now) {
+        MatchParticipantEvent event = new MatchParticipantEvent(eventId, matchId, sequence + 1, userId, action, now);
+        replay(event);
+        return event;
+    }
+    
+    /**
+     * 직전 apply를 되돌린다 (이벤트 저장 대기열이 가득 찬 경우).
+     */
+    void revert(MatchParticipantEvent event) {
+        if (event.action() == ParticipantAction.JOIN) {
+            participants.remove(event.userId());
+        } else {
+            participants.add(event.userId());
+        }
+        sequence = event.sequence() - 1;
+    }
+    
+    LocalDateTime startsAt() {
+        return startsAt;
+    }
+    
+    int participantCount() {
+        return participants.size();
+    }
+    
+    LobbyState state() {
+        return new LobbyState(matchId, capacity, List.copyOf(participants));
+    }
+}
@@ -0,0 +1,48 @@
+package com.pnu.basketball.service.match;
+
+import com.pnu.basketball.domain.Match;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.MatchParticipantEvent;
+import com.pnu.basketball.repository.MatchParticipantEventRepository;
+import com.pnu.basketball.repository.MatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리에 없는 경기 명단을 저장된 참가 이벤트 로그로 복구한다 (재시작 후 첫 접근 시).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchRosterLoader {
+    
+    private final MatchRepository matchRepository;
+    private final MatchParticipantEventRepository eventRepository;
+    
+    public MatchRoster load(long matchId) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
+        
+        MatchRoster roster = new MatchRoster(matchId, match.getCapacity(), match.getStartsAt());
+        if (match.isCancelled()) {
+            roster.cancel();
+        }
+        List<MatchParticipantEvent> events = eventRepository.findByMatchId(matchId);
+        events.forEach(roster::replay);
+        log.debug("경기 명단 복구: matchId={}, events={}", matchId, events.size());
+        return roster;
+    }
+    
+    /**
+     * 명단을 복구하지 않고 저장된 이벤트로 참가 인원만 센다 (한 번의 조회).
+     */
+    public Map<Long, Integer> countParticipants(Collection<Long> matchIds) {
+        return eventRepository.countParticipants(matchIds);
+    }
+}
@@ -0,0 +1,13 @@
+package com.pnu.basketball.service.match;
+
+import com.pnu.basketball.dto.request.MatchRequest;
+import com.pnu.basketball.dto.response.MatchParticipantsResponse;
+import com.pnu.basketball.dto.response.MatchResponse;
+
+public interface MatchService {
+    MatchResponse createMatch(Long userId, MatchRequest request);
+    MatchResponse getMatch(Long matchId);
+    MatchResponse cancelMatch(Long matchId, Long userId);
+    MatchParticipantsResponse join(Long matchId, Long userId);
+    MatchParticipantsResponse leave(Long matchId, Long userId);
+}
@@ -0,0 +1,98 @@
+package com.pnu.basketball.service.match;
+
+import com.pnu.basketball.domain.Match;
+import com.pnu.basketball.dto.request.MatchRequest;
+import com.pnu.basketball.dto.response.MatchParticipantsResponse;
+import com.pnu.basketball.dto.response.MatchResponse;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.CourtRepository;
+import com.pnu.basketball.repository.MatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchServiceImpl implements MatchService {
+    
+    private final MatchRepository matchRepository;
+    private final CourtRepository courtRepository;
+    private final MatchLobby matchLobby;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Override
+    public MatchResponse createMatch(Long userId, MatchRequest request) {
+        if (!courtRepository.existsById(request.getCourtId())) {
+            throw new CustomException(ErrorCode.COURT_NOT_FOUND);
+        }
+        
+        Match match = matchRepository.save(Match.builder()
+                .courtId(request.getCourtId())
+                .hostId(userId)
+                .title(request.getTitle())
+                .capacity(request.getCapacity())
+                .startsAt(request.getStartsAt())
+                .build());
+        
+        // 저장된 경기에만 명단을 열고, 호스트는 첫 참가자로 등록
+        matchLobby.open(match.getMatchId(), match.getCapacity(), match.getStartsAt());
+        LobbyState state;
+        try {
+            state = matchLobby.join(match.getMatchId(), userId);
+        } catch (CustomException e) {
+            // 호스트 참가가 거절되면(MATCH_LOBBY_BUSY) 호스트 없는 경기가 남지 않도록 생성을 되돌린다
+            matchLobby.evict(match.getMatchId());
+            matchRepository.delete(match);
+            throw e;
+        }
+        log.info("경기 생성: matchId={}, courtId={}, hostId={}", match.getMatchId(), match.getCourtId(), userId);
+        eventPublisher.publishEvent(new MatchChangedEvent(match.getMatchId(), MatchChangedEvent.Type.CREATED));
+        return MatchResponse.from(match, state);
+    }
+    
+    @Override
+    public MatchResponse getMatch(Long matchId) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
+        return MatchResponse.from(match, matchLobby.state(matchId));
+    }
+    
+    @Override
+    public MatchResponse cancelMatch(Long matchId, Long userId) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
+        if (!match.getHostId().equals(userId)) {
+            throw new CustomException(ErrorCode.MATCH_HOST_ONLY);
+        }
+        if (match.isCancelled()) {
+            return MatchResponse.from(match, matchLobby.state(matchId));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!now.isBefore(match.getStartsAt())) {
+            throw new CustomException(ErrorCode.MATCH_CLOSED);
+        }
+        
+        // 저장이 끝난 뒤 명단을 닫으므로, 저장 실패 시 명단은 그대로 열려 있다
+        match.cancel(now);
+        matchRepository.save(match);
+        matchLobby.cancel(matchId);
+        log.info("경기 취소: matchId={}, hostId={}", matchId, userId);
+        eventPublisher.publishEvent(new MatchChangedEvent(matchId, MatchChangedEvent.Type.CANCELLED));
+        return MatchResponse.from(match, matchLobby.state(matchId));
+    }
+    
+    @Override
+    public MatchParticipantsResponse join(Long matchId, Long userId) {
+        return MatchParticipantsResponse.from(matchLobby.join(matchId, userId), userId);
+    }
+    
+    @Override
+    public MatchParticipantsResponse leave(Long matchId, Long userId) {
+        return MatchParticipantsResponse.from(matchLobby.leave(matchId, userId), userId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.pnu.basketball.service.presence;
+
+import com.pnu.basketball.dto.response.CourtPresenceResponse;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface PresenceService {
+    void checkIn(Long courtId, Long userId);
+    void checkOut(Long courtId, Long userId);
+    void checkInSession(String sessionId, Long courtId, Long userId);
+    void checkOutSession(String sessionId);
+    CourtPresenceResponse getPresence(Long courtId);
+    Map<Long, Integer> getOnlineCounts(Collection<Long> courtIds);
+}
@@ -0,0 +1,122 @@
+package com.pnu.basketball.service.presence;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.pnu.basketball.dto.response.CourtPresenceResponse;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.CourtRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 농구장 접속 현황.
+ * 인원 수는 노드 로컬 캐시로 count-cache-ttl 동안 공유하므로 목록 화면의 반복 조회가 Redis로 가지 않는다.
+ * 이 노드에서 일어난 체크인/체크아웃은 해당 농구장 항목을 바로 무효화하고, 다른 노드의 변화는 TTL 이내에 반영된다.
+ */
+@Service
+public class PresenceServiceImpl implements PresenceService {
+    
+    private static final int MAX_COUNT_COURTS = 100;
+    
+    private final PresenceStore presenceStore;
+    private final PresenceSessionRegistry sessionRegistry;
+    private final CourtRepository courtRepository;
+    private final LoadingCache<Long, Integer> onlineCounts;
+    
+    public PresenceServiceImpl(PresenceStore presenceStore,
+                               PresenceSessionRegistry sessionRegistry,
+                               CourtRepository courtRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${presence.count-cache-ttl}") Duration countCacheTtl,
+                               @Value("${presence.count-cache-max-size}") long countCacheMaxSize) {
+        this.presenceStore = presenceStore;
+        this.sessionRegistry = sessionRegistry;
+        this.courtRepository = courtRepository;
+        this.onlineCounts = Caffeine.newBuilder()
+                .maximumSize(countCacheMaxSize)
+                .expireAfterWrite(countCacheTtl)
+                .recordStats()
+                .build(new OnlineCountLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, onlineCounts, "presence.counts");
+    }
+    
+    @Override
+    public void checkIn(Long courtId, Long userId) {
+        verifyCourtExists(courtId);
+        presenceStore.markPresent(Map.of(courtId, List.of(userId)));
+        onlineCounts.invalidate(courtId);
+    }
+    
+    @Override
+    public void checkOut(Long courtId, Long userId) {
+        presenceStore.markAbsent(courtId, userId);
+        onlineCounts.invalidate(courtId);
+    }
+    
+    @Override
+    public void checkInSession(String sessionId, Long courtId, Long userId) {
+        checkIn(courtId, userId);
+        PresenceSessionRegistry.SessionPresence previous = sessionRegistry.register(sessionId, userId, courtId);
+        if (previous != null && previous.courtId() != courtId) {
+            checkOut(previous.courtId(), previous.userId());
+        }
+    }
+    
+    @Override
+    public void checkOutSession(String sessionId) {
+        PresenceSessionRegistry.SessionPresence presence = sessionRegistry.remove(sessionId);
+        if (presence != null) {
+            checkOut(presence.courtId(), presence.userId());
+        }
+    }
+    
+    @Override
+    public CourtPresenceResponse getPresence(Long courtId) {
+        verifyCourtExists(courtId);
+        BitSet users = presenceStore.present(courtId);
+        onlineCounts.put(courtId, users.cardinality());
+        return CourtPresenceResponse.of(courtId, users);
+    }
+    
+    @Override
+    public Map<Long, Integer> getOnlineCounts(Collection<Long> courtIds) {
+        if (courtIds.size() > MAX_COUNT_COURTS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT,
+                    "한 번에 조회할 수 있는 농구장은 최대 " + MAX_COUNT_COURTS + "개입니다.");
+        }
+        return onlineCounts.getAll(courtIds);
+    }
+    
+    private void verifyCourtExists(Long courtId) {
+        if (!courtRepository.existsById(courtId)) {
+            throw new CustomException(ErrorCode.COURT_NOT_FOUND);
+        }
+    }
+    
+    /**
+     * 캐시에 없는 농구장들은 한 파이프라인으로 함께 읽는다.
+     */
+    private class OnlineCountLoader implements CacheLoader<Long, Integer> {
+        
+        @Override
+        public Integer load(Long courtId) {
+            return presenceStore.counts(List.of(courtId)).get(courtId);
+        }
+        
+        @Override
+        public Map<Long, Integer> loadAll(Set<? extends Long> courtIds) {
+            return presenceStore.counts(courtIds);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.pnu.basketball.service.presence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 세션으로 체크인한 사용자.
+ * 세션이 열려 있는 동안은 클라이언트가 따로 하트비트를 보내지 않아도 주기마다 이 노드가 모아서 한 파이프라인으로 갱신한다.
+ * 연결이 끊기면 갱신만 멈추고, 비트는 창이 지나면 자연히 빠진다 (잠깐 끊겼다 다시 붙는 경우 깜빡이지 않도록).
+ */
+@Slf4j
+@Component
+public class PresenceSessionRegistry {
+    
+    private static final String METRIC_PREFIX = "presence";
+    
+    private final PresenceStore presenceStore;
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    private final Timer refreshTimer;
+    private final DistributionSummary refreshSize;
+    
+    public PresenceSessionRegistry(PresenceStore presenceStore, MeterRegistry meterRegistry) {
+        this.presenceStore = presenceStore;
+        this.refreshTimer = Timer.builder(METRIC_PREFIX + ".refresh")
+                .description("세션 하트비트 일괄 갱신 (한 파이프라인) 소요 시간")
+                .register(meterRegistry);
+        this.refreshSize = DistributionSummary.builder(METRIC_PREFIX + ".refresh.sessions")
+                .description("한 번의 갱신에 포함된 세션 수")
+                .register(meterRegistry);
+        meterRegistry.gauge(METRIC_PREFIX + ".sessions", sessions, Map::size);
+    }
+    
+    /**
+     * @return 같은 세션이 이전에 체크인해 있던 상태 (없으면 null)
+     */
+    public SessionPresence register(String sessionId, long userId, long courtId) {
+        return sessions.put(sessionId, new SessionPresence(userId, courtId));
+    }
+    
+    public SessionPresence remove(String sessionId) {
+        return sessions.remove(sessionId);
+    }
+    
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+    
+    @Scheduled(fixedDelayString = "${presence.heartbeat-interval}")
+    public void refresh() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Long>> userIdsByCourt = new HashMap<>();
+        sessions.values().forEach(presence ->
+                userIdsByCourt.computeIfAbsent(presence.courtId(), courtId -> new ArrayList<>()).add(presence.userId()));
+        refreshSize.record(sessions.size());
+        try {
+            refreshTimer.record(() -> presenceStore.markPresent(userIdsByCourt));
+        } catch (DataAccessException e) {
+            log.warn("접속 현황 갱신 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+    
+    public record SessionPresence(long userId, long courtId) {
+    }
+}
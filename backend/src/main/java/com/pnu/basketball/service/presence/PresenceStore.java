@@ -0,0 +1,163 @@
+package com.pnu.basketball.service.presence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 농구장 접속 현황 Redis 비트맵.
+ * presence:{courtId}:{분} 키에 user_id 위치의 비트를 켜고, 최근 window-minutes분 키를 OR한 결과를 "지금 있는 사용자"로 본다.
+ * OR은 Redis에서 BITOP으로 임시 키(presence:union:*)에 계산하므로, 인원 수는 BITCOUNT 결과만, 명단은 합친 비트맵 하나만 받는다.
+ * 키는 창이 지나면 만료되므로 하트비트가 끊긴 사용자는 별도 정리 없이 빠진다.
+ * 비트맵 크기는 활성 사용자 수가 아니라 키에 기록된 가장 큰 user_id에 비례한다 (user_id 10만 → 약 12.5KB).
+ */
+@Component
+public class PresenceStore {
+    
+    private static final String KEY_PREFIX = "presence:";
+    private static final String UNION_KEY_PREFIX = KEY_PREFIX + "union:";
+    private static final long UNION_TTL_SECONDS = 10;  // DEL 전에 연결이 끊겨도 남지 않도록
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final long MAX_USER_ID = Integer.MAX_VALUE;  // 읽을 때 BitSet 인덱스(int) 범위
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int windowMinutes;
+    private final long keyTtlSeconds;
+    
+    public PresenceStore(RedisTemplate<String, String> redisTemplate,
+                         @Value("${presence.window-minutes}") int windowMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.windowMinutes = windowMinutes;
+        this.keyTtlSeconds = (windowMinutes + 1) * 60L;
+    }
+    
+    /**
+     * 현재 분 버킷에 사용자들을 기록한다 (SETBIT + 키당 EXPIRE 한 번, 한 파이프라인).
+     */
+    public void markPresent(Map<Long, ? extends Collection<Long>> userIdsByCourt) {
+        if (userIdsByCourt.isEmpty()) {
+            return;
+        }
+        long minute = currentMinute();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            userIdsByCourt.forEach((courtId, userIds) -> {
+                byte[] key = key(courtId, minute);
+                for (Long userId : userIds) {
+                    connection.stringCommands().setBit(key, checkedOffset(userId), true);
+                }
+                connection.keyCommands().expire(key, keyTtlSeconds);
+            });
+            return null;
+        });
+    }
+    
+    /**
+     * 창 안의 모든 버킷에서 사용자를 지운다 (체크아웃).
+     */
+    public void markAbsent(long courtId, long userId) {
+        long minute = currentMinute();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < windowMinutes; i++) {
+                byte[] key = key(courtId, minute - i);
+                connection.stringCommands().setBit(key, checkedOffset(userId), false);
+                connection.keyCommands().expire(key, keyTtlSeconds);
+            }
+            return null;
+        });
+    }
+    
+    /**
+     * 최근 창 안에 있는 사용자 (비트 인덱스 = user_id). 창의 버킷들을 Redis에서 OR한 비트맵 하나만 읽는다.
+     */
+    public BitSet present(long courtId) {
+        byte[] union = unionKey();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            union(connection, union, courtId, currentMinute());
+            connection.stringCommands().get(union);
+            connection.keyCommands().del(union);
+            return null;
+        }, RedisSerializer.byteArray());
+        byte[] bitmap = (byte[]) results.get(2);
+        return bitmap != null ? toBitSet(bitmap) : new BitSet();
+    }
+    
+    /**
+     * 농구장별 최근 창 안의 인원 수. 농구장마다 BITOP OR + BITCOUNT를 하고, 모두 한 파이프라인으로 보낸다.
+     */
+    public Map<Long, Integer> counts(Collection<? extends Long> courtIds) {
+        List<Long> courts = new ArrayList<>(courtIds);
+        List<byte[]> unions = courts.stream().map(courtId -> unionKey()).toList();
+        long minute = currentMinute();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int c = 0; c < courts.size(); c++) {
+                union(connection, unions.get(c), courts.get(c), minute);
+                connection.stringCommands().bitCount(unions.get(c));
+                connection.keyCommands().del(unions.get(c));
+            }
+            return null;
+        });
+        
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (int c = 0; c < courts.size(); c++) {
+            // 농구장당 결과: BITOP, EXPIRE, BITCOUNT, DEL
+            counts.put(courts.get(c), ((Long) results.get(c * 4 + 2)).intValue());
+        }
+        return counts;
+    }
+    
+    /**
+     * 창 안의 버킷을 OR해 임시 키에 저장한다 (없는 버킷은 빈 비트맵으로 취급되고, 모두 없으면 키를 만들지 않는다).
+     */
+    private void union(RedisConnection connection, byte[] destination, long courtId, long minute) {
+        byte[][] keys = new byte[windowMinutes][];
+        for (int i = 0; i < windowMinutes; i++) {
+            keys[i] = key(courtId, minute - i);
+        }
+        connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR, destination, keys);
+        connection.keyCommands().expire(destination, UNION_TTL_SECONDS);
+    }
+    
+    /**
+     * Redis 비트맵은 바이트의 최상위 비트가 0번이고 BitSet은 최하위 비트가 0번이므로 바이트마다 비트 순서를 뒤집는다.
+     */
+    static BitSet toBitSet(byte[] bitmap) {
+        byte[] reversed = new byte[bitmap.length];
+        for (int i = 0; i < bitmap.length; i++) {
+            reversed[i] = (byte) (Integer.reverse(bitmap[i] & 0xFF) >>> 24);
+        }
+        return BitSet.valueOf(reversed);
+    }
+    
+    private static long checkedOffset(Long userId) {
+        if (userId < 0 || userId > MAX_USER_ID) {
+            throw new IllegalArgumentException("비트맵에 기록할 수 없는 user_id: " + userId);
+        }
+        return userId;
+    }
+    
+    private static long currentMinute() {
+        return System.currentTimeMillis() / MILLIS_PER_MINUTE;
+    }
+    
+    // 호출마다 다른 임시 키를 써서 동시에 조회해도 서로의 결과를 지우지 않는다
+    private static byte[] unionKey() {
+        return (UNION_KEY_PREFIX + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static byte[] key(long courtId, long minute) {
+        return (KEY_PREFIX + courtId + ":" + minute).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package com.pnu.basketball.service.ratelimit;
+
+import com.pnu.basketball.config.RateLimitProperties.Bucket;
+import com.pnu.basketball.service.ratelimit.RateLimiter.Decision;
+import com.pnu.basketball.service.ratelimit.RateLimiter.Limit;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis를 사용할 수 없을 때 쓰는 노드 로컬 토큰 버킷
+ */
+class LocalTokenBucket {
+    
+    // 여러 버킷을 잠글 때의 전역 순서 (교착 방지)
+    private static final AtomicLong LOCK_ORDER_SEQUENCE = new AtomicLong();
+    private static final Comparator<LocalTokenBucket> LOCK_ORDER = Comparator.comparingLong(bucket -> bucket.lockOrder);
+    
+    private final long lockOrder = LOCK_ORDER_SEQUENCE.getAndIncrement();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long capacity;
+    private final double refillPerMillis;
+    private double tokens;
+    private long updatedAt;
+    
+    LocalTokenBucket(Bucket bucket, long now) {
+        this.capacity = bucket.getCapacity();
+        this.refillPerMillis = bucket.getRefillPerSecond() / 1000.0;
+        this.tokens = capacity;
+        this.updatedAt = now;
+    }
+    
+    private void refill(long now) {
+        // 락을 기다리는 사이 더 늦은 시각으로 갱신된 경우 시간을 되돌리지 않는다
+        if (now > updatedAt) {
+            tokens = Math.min(capacity, tokens + (now - updatedAt) * refillPerMillis);
+            updatedAt = now;
+        }
+    }
+    
+    private long millisUntilAvailable() {
+        return (long) Math.ceil((1 - tokens) / refillPerMillis);
+    }
+    
+    /**
+     * 요청 하나의 버킷들(IP/계정)을 생성 순서대로 잠그고 원자적으로 처리한다.
+     * 서로 다른 IP/계정의 요청은 서로 기다리지 않는다 (Redis 장애로 로컬 버킷을 쓰는 동안에도).
+     */
+    static Decision tryConsumeAll(List<LocalTokenBucket> buckets, List<Limit> limits, long now) {
+        List<LocalTokenBucket> locked = buckets.stream().distinct().sorted(LOCK_ORDER).toList();
+        locked.forEach(bucket -> bucket.lock.lock());
+        try {
+            for (int i = 0; i < buckets.size(); i++) {
+                LocalTokenBucket bucket = buckets.get(i);
+                bucket.refill(now);
+                if (bucket.tokens < 1) {
+                    return Decision.reject(limits.get(i).scope(), bucket.millisUntilAvailable());
+                }
+            }
+            for (LocalTokenBucket bucket : buckets) {
+                bucket.tokens -= 1;
+            }
+            return Decision.allow();
+        } finally {
+            for (int i = locked.size() - 1; i >= 0; i--) {
+                locked.get(i).lock.unlock();
+            }
+        }
+    }
+}
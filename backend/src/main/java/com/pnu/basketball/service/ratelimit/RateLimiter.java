@@ -0,0 +1,139 @@
+package com.pnu.basketball.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pnu.basketball.config.RateLimitProperties;
+import com.pnu.basketball.config.RateLimitProperties.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 레이트 리미터.
+ * 여러 버킷(IP/계정)을 Redis Lua 스크립트 1회 호출로 원자적으로 확인/차감하며,
+ * Redis가 느리거나 실패하면 일정 시간 동안 노드 로컬 버킷으로 대체한다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    
+    private static final String KEY_PREFIX = "rate_limit:";
+    
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), List.class);
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimitProperties properties;
+    private final Cache<String, LocalTokenBucket> localBuckets;
+    private final Timer redisTimer;
+    private final Timer localTimer;
+    
+    private volatile long redisBypassUntil;
+    
+    public RateLimiter(RedisTemplate<String, String> redisTemplate,
+                       RateLimitProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.redisTimer = checkTimer(meterRegistry, "redis");
+        this.localTimer = checkTimer(meterRegistry, "local");
+    }
+    
+    /**
+     * 모든 버킷에서 토큰 1개를 차감한다. 하나라도 부족하면 아무것도 차감하지 않고 거절한다.
+     */
+    public Decision tryAcquire(List<Limit> limits) {
+        long now = System.currentTimeMillis();
+        if (now >= redisBypassUntil) {
+            long startedAt = System.nanoTime();
+            try {
+                Decision decision = tryAcquireRedis(limits);
+                long elapsedNanos = System.nanoTime() - startedAt;
+                redisTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                if (elapsedNanos > properties.getRedisSlowThreshold().toNanos()) {
+                    bypassRedis(now, "응답 지연 " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms");
+                }
+                return decision;
+            } catch (Exception e) {
+                bypassRedis(now, e.getMessage());
+            }
+        }
+        
+        long startedAt = System.nanoTime();
+        Decision decision = tryAcquireLocal(limits, now);
+        localTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return decision;
+    }
+    
+    // 버킷 시각은 스크립트가 Redis TIME으로 정한다
+    private Decision tryAcquireRedis(List<Limit> limits) {
+        List<String> keys = new ArrayList<>(limits.size());
+        List<String> args = new ArrayList<>(limits.size() * 2);
+        for (Limit limit : limits) {
+            keys.add(KEY_PREFIX + limit.key());
+            args.add(String.valueOf(limit.bucket().getCapacity()));
+            args.add(String.valueOf(limit.bucket().getRefillPerSecond() / 1000.0));
+        }
+        
+        List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys, args.toArray());
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("토큰 버킷 스크립트 결과 없음");
+        }
+        boolean allowed = ((Number) result.get(0)).longValue() == 1;
+        long retryAfterMillis = ((Number) result.get(1)).longValue();
+        int rejectedIndex = ((Number) result.get(2)).intValue() - 1;
+        return allowed
+                ? Decision.allow()
+                : Decision.reject(limits.get(rejectedIndex).scope(), retryAfterMillis);
+    }
+    
+    private Decision tryAcquireLocal(List<Limit> limits, long now) {
+        List<LocalTokenBucket> buckets = new ArrayList<>(limits.size());
+        for (Limit limit : limits) {
+            buckets.add(localBuckets.get(limit.key(), key -> new LocalTokenBucket(limit.bucket(), now)));
+        }
+        return LocalTokenBucket.tryConsumeAll(buckets, limits, now);
+    }
+    
+    private void bypassRedis(long now, String reason) {
+        if (now >= redisBypassUntil) {
+            log.warn("레이트 리미터 Redis 우회 (로컬 버킷 사용 {}ms): {}", properties.getFallbackDuration().toMillis(), reason);
+        }
+        redisBypassUntil = now + properties.getFallbackDuration().toMillis();
+    }
+    
+    private static Timer checkTimer(MeterRegistry meterRegistry, String backend) {
+        return Timer.builder("rate_limit.check")
+                .description("레이트 리미터 판정에 걸린 시간")
+                .tag("backend", backend)
+                .register(meterRegistry);
+    }
+    
+    public record Limit(String scope, String key, Bucket bucket) {
+    }
+    
+    public record Decision(boolean allowed, String rejectedScope, long retryAfterMillis) {
+        
+        static Decision allow() {
+            return new Decision(true, null, 0);
+        }
+        
+        static Decision reject(String scope, long retryAfterMillis) {
+            return new Decision(false, scope, retryAfterMillis);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.pnu.basketball.service.user;
+
+import com.pnu.basketball.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구글 신규 가입자의 닉네임 할당기.
+ * 기본 닉네임별 Redis 카운터(nickname_seq:{base})로 다음 접미사를 원자적으로 발급하므로
+ * 동시 가입에서도 같은 닉네임이 두 번 발급되지 않는다. 카운터가 없을 때만 접두사 조회 1회로 초기값을 정한다.
+ * 접미사 0은 접미사 없는 기본 닉네임을 의미한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameAllocator {
+    
+    private static final String COUNTER_PREFIX = "nickname_seq:";
+    private static final int MAX_BASE_LENGTH = 40;  // nickname 컬럼(50자)에서 접미사 자리를 남겨둔다
+    private static final int MAX_ATTEMPTS = 3;
+    
+    // 카운터가 있으면 INCR, 없으면 nil
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end return nil",
+            Long.class);
+    
+    // 초기값을 (다른 노드가 먼저 설정하지 않았다면) 설정한 뒤 INCR
+    private static final RedisScript<Long> SEED_AND_INCREMENT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX') return redis.call('INCR', KEYS[1])",
+            Long.class);
+    
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserMembershipIndex userMembershipIndex;
+    
+    public String allocate(String baseNickname) {
+        String base = baseNickname.length() > MAX_BASE_LENGTH ? baseNickname.substring(0, MAX_BASE_LENGTH) : baseNickname;
+        
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String candidate = withSuffix(base, nextIndex(base));
+            // 카운터 밖에서(이메일 가입 등) 이미 사용된 닉네임인지 확인
+            if (!userMembershipIndex.mightContainNickname(candidate) || !userRepository.existsByNickname(candidate)) {
+                return candidate;
+            }
+        }
+        
+        String fallback = base + ThreadLocalRandom.current().nextInt(100_000, 1_000_000);
+        log.warn("닉네임 할당 재시도 초과: base={}, fallback={}", base, fallback);
+        return fallback;
+    }
+    
+    private long nextIndex(String base) {
+        String counterKey = COUNTER_PREFIX + base;
+        try {
+            Long index = redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(counterKey));
+            if (index != null) {
+                return index;
+            }
+            long highestUsed = findHighestUsedIndex(base);
+            return redisTemplate.execute(SEED_AND_INCREMENT, List.of(counterKey), String.valueOf(highestUsed));
+        } catch (DataAccessException e) {
+            // Redis 장애 시 접두사 조회 1회로 계산 (동시 가입 시 unique 제약 위반 가능)
+            log.warn("닉네임 카운터 사용 불가, DB 조회로 대체: {}", e.getMessage());
+            return findHighestUsedIndex(base) + 1;
+        }
+    }
+    
+    /**
+     * 기본 닉네임으로 시작하는 닉네임 중 가장 큰 접미사. 기본 닉네임만 사용 중이면 0, 사용된 것이 없으면 -1.
+     */
+    private long findHighestUsedIndex(String base) {
+        long highest = -1;
+        for (String nickname : userRepository.findNicknamesStartingWith(escapeLike(base) + "%")) {
+            long index = parseIndex(base, nickname);
+            if (index > highest) {
+                highest = index;
+            }
+        }
+        return highest;
+    }
+    
+    private static long parseIndex(String base, String nickname) {
+        String suffix = nickname.substring(base.length());
+        if (suffix.isEmpty()) {
+            return 0;
+        }
+        if (suffix.length() > 18 || suffix.charAt(0) == '0' || !suffix.chars().allMatch(Character::isDigit)) {
+            return -1;
+        }
+        return Long.parseLong(suffix);
+    }
+    
+    private static String withSuffix(String base, long index) {
+        return index <= 0 ? base : base + index;
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,6 @@
+package com.pnu.basketball.service.user;
+
+public enum RosterFormat {
+    CSV,   // 헤더: email,password,nickname,phoneNumber
+    JSON   // [{"email": ..., "password": ..., "nickname": ..., "phoneNumber": ...}, ...]
+}
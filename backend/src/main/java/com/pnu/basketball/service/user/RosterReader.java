@@ -0,0 +1,157 @@
+package com.pnu.basketball.service.user;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 일괄 가입 명단을 한 행씩 스트리밍으로 읽는다 (파일 전체를 메모리에 올리지 않음)
+ */
+abstract class RosterReader implements Closeable {
+    
+    protected long rowNumber;
+    
+    static RosterReader open(RosterFormat format, InputStream input, ObjectMapper objectMapper) throws IOException {
+        return format == RosterFormat.JSON ? new JsonRosterReader(input, objectMapper) : new CsvRosterReader(input);
+    }
+    
+    /**
+     * 다음 행을 반환하고, 끝에 도달하면 null을 반환한다.
+     */
+    abstract RosterRow next() throws IOException;
+    
+    private static class CsvRosterReader extends RosterReader {
+        
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        
+        CsvRosterReader(InputStream input) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String header = reader.readLine();
+            if (header == null) {
+                return;
+            }
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1);  // 엑셀에서 저장한 UTF-8 BOM 제거
+            }
+            List<String> names = split(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+            }
+        }
+        
+        @Override
+        RosterRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            
+            List<String> values = split(line);
+            rowNumber++;
+            return new RosterRow(rowNumber,
+                    value(values, "email"),
+                    value(values, "password"),
+                    value(values, "nickname"),
+                    value(values, "phonenumber"));
+        }
+        
+        private String value(List<String> values, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+        
+        // 큰따옴표로 감싼 값(쉼표, "" 이스케이프 포함)을 지원하는 최소한의 CSV 분리
+        private static List<String> split(String line) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString());
+            return values;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+    
+    private static class JsonRosterReader extends RosterReader {
+        
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+        
+        JsonRosterReader(InputStream input, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(input);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("JSON 명단은 배열이어야 합니다.");
+            }
+        }
+        
+        @Override
+        RosterRow next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            JsonNode node = objectMapper.readTree(parser);
+            rowNumber++;
+            return new RosterRow(rowNumber,
+                    text(node, "email"),
+                    text(node, "password"),
+                    text(node, "nickname"),
+                    text(node, "phoneNumber"));
+        }
+        
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value != null && value.isTextual() && !value.asText().isBlank() ? value.asText().trim() : null;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.pnu.basketball.service.user;
+
+/**
+ * 일괄 가입 명단의 한 행 (rowNumber는 헤더를 제외한 1부터 시작)
+ */
+record RosterRow(long rowNumber, String email, String password, String nickname, String phoneNumber) {
+}
@@ -0,0 +1,7 @@
+package com.pnu.basketball.service.user;
+
+/**
+ * 사용자 정보(users 행)가 생성/변경되었음을 알리는 이벤트. 트랜잭션 커밋 이후 리스너에서 처리한다.
+ */
+public record UserChangedEvent(Long userId) {
+}
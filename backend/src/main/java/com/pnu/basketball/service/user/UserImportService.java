@@ -0,0 +1,9 @@
+package com.pnu.basketball.service.user;
+
+import com.pnu.basketball.dto.response.UserImportResponse;
+
+import java.io.InputStream;
+
+public interface UserImportService {
+    UserImportResponse importUsers(InputStream roster, RosterFormat format);
+}
@@ -0,0 +1,241 @@
+package com.pnu.basketball.service.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.domain.LoginType;
+import com.pnu.basketball.domain.User;
+import com.pnu.basketball.dto.request.SignupRequest;
+import com.pnu.basketball.dto.response.UserImportResponse;
+import com.pnu.basketball.dto.response.UserImportResponse.RowFailure;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동아리 명단 일괄 가입.
+ * 명단을 스트리밍으로 읽어 chunk 단위로 BCrypt를 병렬 수행하고, 미리 할당한 ID로 JDBC 배치 INSERT 후
+ * 한 번의 조회로 행별 충돌(이메일/닉네임)을 판별한다. 충돌 행은 건너뛰고 나머지는 계속 저장한다.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService {
+    
+    private static final String METRIC_PREFIX = "user_import";
+    
+    private final UserRepository userRepository;
+    private final UserMembershipIndex userMembershipIndex;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ExecutorService hashExecutor;
+    private final int chunkSize;
+    
+    private final Timer importTimer;
+    private final Counter importedRows;
+    private final Counter conflictRows;
+    private final Counter invalidRows;
+    
+    public UserImportServiceImpl(UserRepository userRepository,
+                                 UserMembershipIndex userMembershipIndex,
+                                 PasswordEncoder passwordEncoder,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user-import.chunk-size}") int chunkSize,
+                                 @Value("${user-import.hash-pool-size:0}") int hashPoolSize) {
+        this.userRepository = userRepository;
+        this.userMembershipIndex = userMembershipIndex;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        
+        // 로그인용 password-hashing 풀과 분리하여 일괄 가입 중에도 로그인이 밀리지 않도록 한다
+        int threads = hashPoolSize > 0 ? hashPoolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        this.importTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("명단 일괄 가입 전체 소요 시간")
+                .register(meterRegistry);
+        this.importedRows = rowCounter(meterRegistry, "imported");
+        this.conflictRows = rowCounter(meterRegistry, "conflict");
+        this.invalidRows = rowCounter(meterRegistry, "invalid");
+    }
+    
+    @Override
+    public UserImportResponse importUsers(InputStream roster, RosterFormat format) {
+        long startedAt = System.nanoTime();
+        long total = 0;
+        long imported = 0;
+        List<RowFailure> failures = new ArrayList<>();
+        
+        try (RosterReader reader = RosterReader.open(format, roster, objectMapper)) {
+            List<RosterRow> chunk = new ArrayList<>(chunkSize);
+            RosterRow row;
+            while ((row = reader.next()) != null) {
+                total++;
+                String invalidReason = validate(row);
+                if (invalidReason != null) {
+                    failures.add(failure(row, ErrorCode.INVALID_INPUT, invalidReason));
+                    invalidRows.increment();
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    imported += importChunk(chunk, failures);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += importChunk(chunk, failures);
+            }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "명단 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+        
+        long elapsedNanos = System.nanoTime() - startedAt;
+        importTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        double rowsPerSecond = elapsedNanos > 0 ? total * 1_000_000_000.0 / elapsedNanos : 0;
+        log.info("명단 일괄 가입 완료: total={}, imported={}, failed={}, elapsed={}ms, rowsPerSecond={}",
+                total, imported, failures.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                String.format("%.1f", rowsPerSecond));
+        
+        return UserImportResponse.builder()
+                .totalRows(total)
+                .importedRows(imported)
+                .failedRows((long) failures.size())
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .rowsPerSecond(rowsPerSecond)
+                .failures(failures)
+                .build();
+    }
+    
+    private long importChunk(List<RosterRow> chunk, List<RowFailure> failures) {
+        // BCrypt는 병렬로, 그동안 ID 블록 할당
+        List<CompletableFuture<String>> hashes = new ArrayList<>(chunk.size());
+        for (RosterRow row : chunk) {
+            hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.password()), hashExecutor));
+        }
+        List<Long> ids = userRepository.allocateIds(chunk.size());
+        
+        List<User> users = new ArrayList<>(chunk.size());
+        List<String> emails = new ArrayList<>(chunk.size());
+        List<String> nicknames = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            RosterRow row = chunk.get(i);
+            users.add(User.builder()
+                    .userId(ids.get(i))
+                    .email(row.email())
+                    .password(hashes.get(i).join())
+                    .nickname(row.nickname())
+                    .phoneNumber(row.phoneNumber())
+                    .loginType(LoginType.EMAIL)
+                    .build());
+            emails.add(row.email());
+            nicknames.add(row.nickname());
+        }
+        
+        userRepository.insertAllIgnoringConflicts(users);
+        
+        // 배치의 행별 갱신 수 대신, 할당한 ID가 저장되었는지와 이메일/닉네임 소유자를 한 번에 조회해 판별
+        Set<Long> allocatedIds = new HashSet<>(ids);
+        Set<Long> insertedIds = new HashSet<>();
+        Map<String, Long> emailOwners = new HashMap<>();
+        for (User existing : userRepository.findAllByIdsOrEmailsOrNicknames(ids, emails, nicknames)) {
+            if (allocatedIds.contains(existing.getUserId())) {
+                insertedIds.add(existing.getUserId());
+            }
+            emailOwners.put(existing.getEmail(), existing.getUserId());
+        }
+        
+        List<UserMembershipIndex.Entry> added = new ArrayList<>(insertedIds.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            if (insertedIds.contains(user.getUserId())) {
+                added.add(new UserMembershipIndex.Entry(user.getEmail(), user.getNickname()));
+                continue;
+            }
+            Long emailOwner = emailOwners.get(user.getEmail());
+            ErrorCode conflict = emailOwner != null && !emailOwner.equals(user.getUserId())
+                    ? ErrorCode.EMAIL_ALREADY_EXISTS
+                    : ErrorCode.NICKNAME_ALREADY_EXISTS;
+            failures.add(failure(chunk.get(i), conflict, conflict.getMessage()));
+            conflictRows.increment();
+        }
+        
+        userMembershipIndex.addAll(added);
+        importedRows.increment(added.size());
+        return added.size();
+    }
+    
+    /**
+     * SignupRequest에 선언된 제약(@Email, 컬럼 길이, 형식)을 그대로 적용한다.
+     * @return 첫 번째 위반 메시지 (유효하면 null)
+     */
+    private String validate(RosterRow row) {
+        String violation = violation("email", row.email());
+        if (violation == null) {
+            violation = violation("password", row.password());
+        }
+        if (violation == null) {
+            violation = violation("nickname", row.nickname());
+        }
+        if (violation == null) {
+            violation = violation("phoneNumber", row.phoneNumber());
+        }
+        return violation;
+    }
+    
+    private String violation(String property, Object value) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validateValue(SignupRequest.class, property, value);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+    
+    private static RowFailure failure(RosterRow row, ErrorCode code, String message) {
+        return RowFailure.builder()
+                .rowNumber(row.rowNumber())
+                .email(row.email())
+                .code(code.name())
+                .message(message)
+                .build();
+    }
+    
+    private static Counter rowCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".rows")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+}
@@ -0,0 +1,268 @@
+package com.pnu.basketball.service.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.repository.UserRepository;
+import com.pnu.basketball.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일/닉네임 사용 여부를 위한 인메모리 멤버십 인덱스 (블룸 필터).
+ * 기동 시 users 테이블로 구축하고, 가입/구글 신규 가입은 Redis pub/sub으로 모든 노드에 전파된다.
+ * 확실히 없는 값은 메모리에서 바로 응답하고, 있을 수도 있는 값만 DB로 확인한다.
+ * pub/sub은 유실될 수 있으므로 rebuild-interval마다 users 테이블로 다시 구축해 교체한다
+ * (놓친 가입이 있어도 그 주기 안에 반영되고, 닉네임 변경으로 남은 오래된 값도 정리된다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserMembershipIndex {
+    
+    private static final String CHANNEL = "user_membership";
+    private static final String METRIC_PREFIX = "user_membership";
+    private static final int FETCH_SIZE = 1000;
+    
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${user-membership.expected-insertions}")
+    private long expectedInsertions;
+    
+    @Value("${user-membership.false-positive-rate}")
+    private double falsePositiveRate;
+    
+    private volatile BloomFilter emails;
+    private volatile BloomFilter nicknames;
+    private volatile boolean ready;
+    // 재구축 중에 추가된 값 (새 필터로 교체한 뒤 옮겨 담는다)
+    private volatile Queue<Entry> addedDuringRebuild;
+    
+    private Timer buildTimer;
+    private Counter rebuildFailures;
+    private Counter emailNegatives;
+    private Counter emailFalsePositives;
+    private Counter nicknameNegatives;
+    private Counter nicknameFalsePositives;
+    
+    @PostConstruct
+    public void init() {
+        emailNegatives = lookupCounter("email", "negative");
+        emailFalsePositives = lookupCounter("email", "false_positive");
+        nicknameNegatives = lookupCounter("nickname", "negative");
+        nicknameFalsePositives = lookupCounter("nickname", "false_positive");
+        buildTimer = Timer.builder(METRIC_PREFIX + ".build")
+                .register(meterRegistry);
+        rebuildFailures = Counter.builder(METRIC_PREFIX + ".rebuild.failures")
+                .description("주기적 재구축 실패 수 (기존 필터를 계속 사용)")
+                .register(meterRegistry);
+        
+        Gauge.builder(METRIC_PREFIX + ".memory", this, index -> index.ready
+                        ? index.emails.memoryBytes() + index.nicknames.memoryBytes() : 0)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expected_fpp", this, index -> index.ready
+                        ? index.emails.expectedFalsePositiveRate() : 1.0)
+                .tag("field", "email")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expected_fpp", this, index -> index.ready
+                        ? index.nicknames.expectedFalsePositiveRate() : 1.0)
+                .tag("field", "nickname")
+                .register(meterRegistry);
+        
+        // 구축 중 다른 노드에서 추가된 값을 놓치지 않도록 구독을 먼저 시작
+        redisMessageListenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+    
+    /**
+     * 놓친 전파 메시지를 보정하기 위해 주기적으로 다시 구축한다. 실패하면 기존 필터를 계속 쓴다.
+     */
+    @Scheduled(fixedDelayString = "${user-membership.rebuild-interval}", initialDelayString = "${user-membership.rebuild-interval}")
+    public void reconcile() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            rebuildFailures.increment();
+            log.warn("멤버십 인덱스 재구축 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+    
+    private void rebuild() {
+        long startedAt = System.nanoTime();
+        // 조회 시작 전에 커밋된 가입은 조회 결과에, 그 이후 추가된 값은 이 대기열에 들어간다
+        Queue<Entry> added = new ConcurrentLinkedQueue<>();
+        addedDuringRebuild = added;
+        try {
+            long userCount = userRepository.count();
+            long capacity = Math.max(expectedInsertions, userCount * 2);
+            
+            BloomFilter newEmails = new BloomFilter(capacity, falsePositiveRate);
+            BloomFilter newNicknames = new BloomFilter(capacity, falsePositiveRate);
+            
+            // 커서 기반으로 스트리밍하기 위해 트랜잭션 안에서 fetch size를 지정
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("SELECT email, nickname FROM users");
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                newEmails.put(rs.getString(1));
+                newNicknames.put(rs.getString(2));
+            }));
+            emails = newEmails;
+            nicknames = newNicknames;
+            ready = true;
+            Entry entry;
+            while ((entry = added.poll()) != null) {
+                put(newEmails, newNicknames, entry.email(), entry.nickname());
+            }
+            
+            long elapsedNanos = System.nanoTime() - startedAt;
+            buildTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.info("멤버십 인덱스 구축 완료: users={}, elapsed={}ms, memory={}KB, expectedFpp(email)={}, hashes={}",
+                    userCount,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    (newEmails.memoryBytes() + newNicknames.memoryBytes()) / 1024,
+                    String.format("%.5f", newEmails.expectedFalsePositiveRate()),
+                    newEmails.hashCount());
+        } finally {
+            addedDuringRebuild = null;
+        }
+    }
+    
+    public boolean mightContainEmail(String email) {
+        if (!ready || emails.mightContain(email)) {
+            return true;
+        }
+        emailNegatives.increment();
+        return false;
+    }
+    
+    public boolean mightContainNickname(String nickname) {
+        if (!ready || nicknames.mightContain(nickname)) {
+            return true;
+        }
+        nicknameNegatives.increment();
+        return false;
+    }
+    
+    public void recordEmailFalsePositive() {
+        emailFalsePositives.increment();
+    }
+    
+    public void recordNicknameFalsePositive() {
+        nicknameFalsePositives.increment();
+    }
+    
+    /**
+     * 신규 사용자를 인덱스에 추가하고 다른 노드에 전파한다.
+     * 블룸 필터는 추가만 하므로 트랜잭션이 롤백되어도 오탐만 늘 뿐 정확성에는 영향이 없다.
+     */
+    public void add(String email, String nickname) {
+        addLocal(email, nickname);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new Entry(email, nickname)));
+        } catch (JsonProcessingException e) {
+            log.warn("멤버십 인덱스 전파 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 일괄 가입한 사용자들을 추가하고, 전파 메시지는 파이프라인으로 한 번에 보낸다.
+     */
+    public void addAll(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> messages = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            addLocal(entry.email(), entry.nickname());
+            try {
+                messages.add(objectMapper.writeValueAsString(entry));
+            } catch (JsonProcessingException e) {
+                log.warn("멤버십 인덱스 전파 실패: {}", e.getMessage());
+            }
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+            for (String message : messages) {
+                connection.publish(channel, message.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+    
+    private void onMessage(Message message, byte[] pattern) {
+        try {
+            Entry entry = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Entry.class);
+            addLocal(entry.email(), entry.nickname());
+        } catch (IOException e) {
+            log.warn("멤버십 인덱스 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+    
+    // 재구축 대기열에 먼저 넣고 필터를 읽는다: 대기열을 비운 뒤 넣었다면 필터는 이미 새 필터다
+    private void addLocal(String email, String nickname) {
+        Queue<Entry> added = addedDuringRebuild;
+        if (added != null) {
+            added.add(new Entry(email, nickname));
+        }
+        put(emails, nicknames, email, nickname);
+    }
+    
+    private static void put(BloomFilter emailFilter, BloomFilter nicknameFilter, String email, String nickname) {
+        if (emailFilter != null && email != null) {
+            emailFilter.put(email);
+        }
+        if (nicknameFilter != null && nickname != null) {
+            nicknameFilter.put(nickname);
+        }
+    }
+    
+    private Counter lookupCounter(String field, String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .tag("field", field)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    record Entry(String email, String nickname) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.pnu.basketball.service.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pnu.basketball.dto.response.UserResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 사용자 프로필(UserResponse) 2단계 캐시.
+ * 노드 로컬(Caffeine) → Redis(user_profile:{userId}) → DB 순으로 조회한다.
+ * users 행이 변경되면 커밋 이후 Redis 항목을 삭제하고 pub/sub으로 모든 노드의 로컬 항목을 무효화한다.
+ * 메시지가 유실되더라도 두 단계 모두 max-staleness 이내에 만료되므로 오래된 값을 읽는 기간이 제한된다.
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+    
+    private static final String KEY_PREFIX = "user_profile:";
+    private static final String CHANNEL = "user_profile_invalidation";
+    private static final String METRIC_PREFIX = "user_profile";
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, UserResponse> localCache;
+    private final Duration redisTtl;
+    
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Timer invalidationLag;
+    
+    public UserProfileCache(RedisTemplate<String, String> redisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${user-profile-cache.max-staleness}") long maxStaleness,
+                            @Value("${user-profile-cache.local-ttl}") long localTtl,
+                            @Value("${user-profile-cache.local-max-size}") long localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofMillis(maxStaleness);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMillis(Math.min(localTtl, maxStaleness)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, METRIC_PREFIX + ".local");
+        
+        this.redisHits = Counter.builder(METRIC_PREFIX + ".redis.lookups").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder(METRIC_PREFIX + ".redis.lookups").tag("result", "miss").register(meterRegistry);
+        this.invalidationLag = Timer.builder(METRIC_PREFIX + ".invalidation.lag")
+                .description("변경 커밋부터 각 노드의 로컬 캐시 무효화까지 걸린 시간")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+    
+    public UserResponse get(Long userId, Function<Long, UserResponse> loader) {
+        return localCache.get(userId, id -> loadShared(id, loader));
+    }
+    
+    private UserResponse loadShared(Long userId, Function<Long, UserResponse> loader) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                redisHits.increment();
+                return objectMapper.readValue(cached, UserResponse.class);
+            }
+        } catch (DataAccessException | IOException e) {
+            log.warn("프로필 캐시 조회 실패 (DB 조회로 대체): userId={}, {}", userId, e.getMessage());
+        }
+        redisMisses.increment();
+        
+        UserResponse user = loader.apply(userId);
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(user), redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("프로필 캐시 저장 실패: userId={}, {}", userId, e.getMessage());
+        }
+        return user;
+    }
+    
+    /**
+     * users 행 변경이 커밋된 뒤 Redis 항목을 삭제하고 모든 노드에 무효화를 전파한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        localCache.invalidate(event.userId());
+        try {
+            redisTemplate.delete(KEY_PREFIX + event.userId());
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(
+                    new Invalidation(event.userId(), System.currentTimeMillis())));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 전파에 실패해도 다른 노드의 로컬 항목은 max-staleness 이내에 만료된다
+            log.warn("프로필 캐시 무효화 전파 실패: userId={}, {}", event.userId(), e.getMessage());
+        }
+    }
+    
+    private void onMessage(Message message, byte[] pattern) {
+        try {
+            Invalidation invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), Invalidation.class);
+            localCache.invalidate(invalidation.userId());
+            invalidationLag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - invalidation.publishedAt())));
+        } catch (IOException e) {
+            log.warn("프로필 캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+    
+    record Invalidation(Long userId, long publishedAt) {
+    }
+}
@@ -7,17 +7,22 @@ import com.pnu.basketball.exception.ErrorCode;
 import com.pnu.basketball.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     
     private final UserRepository userRepository;
+    private final UserMembershipIndex userMembershipIndex;
+    private final UserProfileCache userProfileCache;
     
+    // 캐시 적중 시 커넥션을 잡지 않도록 서비스 트랜잭션을 열지 않는다 (findById는 리포지토리 트랜잭션으로 실행됨)
     @Override
-    @Transactional(readOnly = true)
     public UserResponse getCurrentUser(Long userId) {
+        return userProfileCache.get(userId, this::loadUser);
+    }
+    
+    private UserResponse loadUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         
@@ -33,16 +38,29 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
     
+    // 확실히 없는 값은 커넥션 없이 응답하도록 서비스 트랜잭션을 열지 않는다 (existsBy*는 읽기 전용 트랜잭션으로 실행됨)
     @Override
-    @Transactional(readOnly = true)
     public boolean checkEmailAvailability(String email) {
-        return !userRepository.existsByEmail(email);
+        if (!userMembershipIndex.mightContainEmail(email)) {
+            return true;
+        }
+        boolean exists = userRepository.existsByEmail(email);
+        if (!exists) {
+            userMembershipIndex.recordEmailFalsePositive();
+        }
+        return !exists;
     }
     
     @Override
-    @Transactional(readOnly = true)
     public boolean checkNicknameAvailability(String nickname) {
-        return !userRepository.existsByNickname(nickname);
+        if (!userMembershipIndex.mightContainNickname(nickname)) {
+            return true;
+        }
+        boolean exists = userRepository.existsByNickname(nickname);
+        if (!exists) {
+            userMembershipIndex.recordNicknameFalsePositive();
+        }
+        return !exists;
     }
 }
 
@@ -0,0 +1,158 @@
+package com.pnu.basketball.service.viewport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.dto.response.NearbyMatchResponse;
+import com.pnu.basketball.dto.response.ViewportUpdateResponse;
+import com.pnu.basketball.repository.MatchLocation;
+import com.pnu.basketball.repository.MatchRepository;
+import com.pnu.basketball.service.match.MatchChangedEvent;
+import com.pnu.basketball.service.match.MatchLobby;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경기 변경을 지도 변경분으로 만들어 이 노드의 뷰포트 구독자에게 보내고, Redis pub/sub으로 다른 노드에 중계한다.
+ * 변경분에 좌표가 들어 있으므로 받는 노드는 DB 조회 없이 자신의 셀 색인만 확인한다.
+ * MatchLobby는 참가/취소 요청 스레드에서 이벤트를 발행하므로, 좌표 조회와 발행은 전용 스레드에서 하고
+ * 요청 스레드는 대기열에 넣기만 한다. 대기열이 가득 차면 변경분을 버린다 (구독자는 다음 뷰포트 이동 때 스냅샷으로 보정됨).
+ */
+@Slf4j
+@Component
+public class MatchViewportRelay {
+    
+    private static final String CHANNEL = "match_viewport";
+    private static final String METRIC_PREFIX = "viewport.relay";
+    
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    private final MatchRepository matchRepository;
+    private final MatchLobby matchLobby;
+    private final ViewportBroadcaster broadcaster;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor relayExecutor;
+    
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failureCounter;
+    private final Counter droppedCounter;
+    
+    public MatchViewportRelay(MatchRepository matchRepository,
+                              MatchLobby matchLobby,
+                              ViewportBroadcaster broadcaster,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${viewport.relay-queue-capacity}") int queueCapacity) {
+        this.matchRepository = matchRepository;
+        this.matchLobby = matchLobby;
+        this.broadcaster = broadcaster;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.publishedCounter = Counter.builder(METRIC_PREFIX + ".messages")
+                .tag("direction", "published")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder(METRIC_PREFIX + ".messages")
+                .tag("direction", "received")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder(METRIC_PREFIX + ".failures")
+                .description("위치 조회 또는 Redis 발행 실패 수 (발행 실패 시 이 노드의 구독자에게는 전달됨)")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("중계 대기열이 가득 차 버린 경기 변경 수")
+                .register(meterRegistry);
+        this.relayExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "viewport-relay");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> droppedCounter.increment()
+        );
+    }
+    
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        relayExecutor.execute(() -> relay(event));
+    }
+    
+    private void relay(MatchChangedEvent event) {
+        Optional<MatchLocation> location;
+        try {
+            location = matchRepository.findLocationById(event.matchId());
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.warn("경기 변경 중계용 위치 조회 실패: matchId={}, {}", event.matchId(), e.getMessage());
+            return;
+        }
+        if (location.isEmpty()) {
+            return;
+        }
+        NearbyMatchResponse match = NearbyMatchResponse.from(location.get(), matchLobby.state(event.matchId()));
+        ViewportUpdateResponse update = new ViewportUpdateResponse(event.type().name(), List.of(match), false);
+        broadcaster.deliver(update);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new RelayedUpdate(nodeId, update)));
+            publishedCounter.increment();
+        } catch (DataAccessException | JsonProcessingException e) {
+            failureCounter.increment();
+            log.warn("경기 변경 중계 실패: matchId={}, {}", event.matchId(), e.getMessage());
+        }
+    }
+    
+    private void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayedUpdate relayed = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), RelayedUpdate.class);
+            if (nodeId.equals(relayed.nodeId())) {
+                return;
+            }
+            receivedCounter.increment();
+            broadcaster.deliver(relayed.update());
+        } catch (IOException e) {
+            log.warn("경기 변경 중계 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdown();
+    }
+    
+    private record RelayedUpdate(String nodeId, ViewportUpdateResponse update) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.pnu.basketball.service.viewport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pnu.basketball.dto.response.NearbyMatchResponse;
+import com.pnu.basketball.dto.response.ViewportUpdateResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * 경기 변경분을 그 경기 셀을 보고 있는 세션에만 보낸다 (세션 단위 /user/queue/viewport).
+ * JSON 직렬화는 변경당 한 번만 하고, 세션마다 같은 바이트 배열로 메시지를 만든다.
+ */
+@Slf4j
+@Component
+public class ViewportBroadcaster {
+    
+    private static final String DESTINATION = "/queue/viewport";
+    private static final String USER_PREFIX = "/user/";
+    private static final String METRIC_PREFIX = "viewport.fanout";
+    
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ViewportSubscriptionRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final DistributionSummary recipientsSummary;
+    
+    public ViewportBroadcaster(SimpMessagingTemplate messagingTemplate,
+                               ViewportSubscriptionRegistry registry,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        this.recipientsSummary = DistributionSummary.builder(METRIC_PREFIX + ".recipients")
+                .description("경기 변경 하나를 받은 세션 수")
+                .register(meterRegistry);
+    }
+    
+    public void deliver(ViewportUpdateResponse update) {
+        NearbyMatchResponse match = update.getMatches().get(0);
+        List<ViewportSubscriptionRegistry.Viewer> viewers =
+                registry.viewers(registry.grid().cellOf(match.getLatitude(), match.getLongitude()));
+        recipientsSummary.record(viewers.size());
+        if (viewers.isEmpty()) {
+            return;
+        }
+        
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(update);
+        } catch (JsonProcessingException e) {
+            log.warn("뷰포트 변경 직렬화 실패: matchId={}, {}", match.getMatchId(), e.getMessage());
+            return;
+        }
+        for (ViewportSubscriptionRegistry.Viewer viewer : viewers) {
+            try {
+                messagingTemplate.send(USER_PREFIX + viewer.userName() + DESTINATION, sessionMessage(viewer, payload));
+            } catch (MessagingException e) {
+                log.warn("뷰포트 변경 전송 실패: sessionId={}, {}", viewer.sessionId(), e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 세션 ID 헤더가 있으면 사용자 목적지가 그 사용자의 다른 세션(다른 기기)으로는 전달되지 않는다.
+     */
+    private static Message<byte[]> sessionMessage(ViewportSubscriptionRegistry.Viewer viewer, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(viewer.sessionId());
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
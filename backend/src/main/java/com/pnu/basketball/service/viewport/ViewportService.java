@@ -0,0 +1,9 @@
+package com.pnu.basketball.service.viewport;
+
+import com.pnu.basketball.dto.request.ViewportRequest;
+import com.pnu.basketball.dto.response.ViewportUpdateResponse;
+
+public interface ViewportService {
+    ViewportUpdateResponse subscribe(String sessionId, String userName, ViewportRequest request);
+    void unsubscribe(String sessionId);
+}
@@ -0,0 +1,91 @@
+package com.pnu.basketball.service.viewport;
+
+import com.pnu.basketball.dto.request.ViewportRequest;
+import com.pnu.basketball.dto.response.NearbyMatchResponse;
+import com.pnu.basketball.dto.response.ViewportUpdateResponse;
+import com.pnu.basketball.exception.CustomException;
+import com.pnu.basketball.exception.ErrorCode;
+import com.pnu.basketball.repository.MatchLocation;
+import com.pnu.basketball.repository.MatchRepository;
+import com.pnu.basketball.service.match.MatchLobby;
+import com.pnu.basketball.util.GeoGrid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class ViewportServiceImpl implements ViewportService {
+    
+    private final ViewportSubscriptionRegistry registry;
+    private final MatchRepository matchRepository;
+    private final MatchLobby matchLobby;
+    private final int maxCells;
+    private final int snapshotLimit;
+    
+    public ViewportServiceImpl(ViewportSubscriptionRegistry registry,
+                               MatchRepository matchRepository,
+                               MatchLobby matchLobby,
+                               @Value("${viewport.max-cells}") int maxCells,
+                               @Value("${viewport.snapshot-limit}") int snapshotLimit) {
+        this.registry = registry;
+        this.matchRepository = matchRepository;
+        this.matchLobby = matchLobby;
+        this.maxCells = maxCells;
+        this.snapshotLimit = snapshotLimit;
+    }
+    
+    /**
+     * 뷰포트를 바꾸고 새로 들어온 셀의 모집 중인 경기만 반환한다.
+     * 색인을 먼저 갱신한 뒤 스냅샷을 읽으므로 그 사이의 변경은 스냅샷이나 변경분 중 하나로는 반드시 전달된다.
+     */
+    @Override
+    public ViewportUpdateResponse subscribe(String sessionId, String userName, ViewportRequest request) {
+        double south = request.getSouth();
+        double west = request.getWest();
+        double north = request.getNorth();
+        double east = request.getEast();
+        if (south > north || west > east) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 지도 범위입니다.");
+        }
+        GeoGrid grid = registry.grid();
+        if (grid.countCells(south, west, north, east) > maxCells) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "지도 범위가 너무 넓습니다. 지도를 확대해주세요.");
+        }
+        
+        Set<Long> entered = registry.update(sessionId, userName, grid.cellsCovering(south, west, north, east));
+        if (entered.isEmpty()) {
+            return new ViewportUpdateResponse(ViewportUpdateResponse.SNAPSHOT, List.of(), false);
+        }
+        
+        // 새 셀만 정확히 덮는 직사각형별로 조회하므로, 이미 보고 있던 셀의 경기가 LIMIT 자리를 차지하지 않는다
+        LocalDateTime now = LocalDateTime.now();
+        List<MatchLocation> locations = new ArrayList<>();
+        for (double[] bounds : grid.rectanglesOf(entered)) {
+            locations.addAll(matchRepository.findOpenInBoundingBox(
+                    bounds[0], bounds[1], bounds[2], bounds[3], now, Limit.of(snapshotLimit + 1)));
+        }
+        locations.sort(Comparator.comparing(MatchLocation::startsAt));
+        boolean truncated = locations.size() > snapshotLimit;
+        List<MatchLocation> shown = locations.subList(0, Math.min(locations.size(), snapshotLimit));
+        
+        // 참가 인원은 한 번에 구하며, 메모리에 없는 명단은 복구하지 않는다
+        Map<Long, Integer> participantCounts = matchLobby.participantCounts(
+                shown.stream().map(MatchLocation::matchId).toList());
+        List<NearbyMatchResponse> matches = shown.stream()
+                .map(location -> NearbyMatchResponse.from(location, participantCounts.get(location.matchId())))
+                .toList();
+        return new ViewportUpdateResponse(ViewportUpdateResponse.SNAPSHOT, matches, truncated);
+    }
+    
+    @Override
+    public void unsubscribe(String sessionId) {
+        registry.remove(sessionId);
+    }
+}
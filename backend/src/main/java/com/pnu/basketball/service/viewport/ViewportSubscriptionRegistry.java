@@ -0,0 +1,119 @@
+package com.pnu.basketball.service.viewport;
+
+import com.pnu.basketball.util.GeoGrid;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 격자 셀 → 그 셀을 보고 있는 WebSocket 세션 색인.
+ * 경기 변경은 경기 위치의 셀 하나만 조회하므로, 전달 비용은 전체 접속자가 아니라 그 셀을 보는 세션 수에 비례한다.
+ * 세션별 갱신은 viewports의 같은 키 compute 안에서 직렬화되고, 셀 집합의 추가/제거는 셀 키 compute로 원자적으로 처리한다.
+ */
+@Component
+public class ViewportSubscriptionRegistry {
+    
+    private static final String METRIC_PREFIX = "viewport";
+    
+    private final GeoGrid grid;
+    private final Map<Long, Set<String>> sessionsByCell = new ConcurrentHashMap<>();
+    private final Map<String, Viewport> viewports = new ConcurrentHashMap<>();
+    
+    public ViewportSubscriptionRegistry(MeterRegistry meterRegistry,
+                                        @Value("${viewport.cell-size-degrees}") double cellSizeDegrees) {
+        this.grid = new GeoGrid(cellSizeDegrees);
+        Gauge.builder(METRIC_PREFIX + ".sessions", viewports, Map::size)
+                .description("뷰포트를 구독 중인 세션 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".cells", sessionsByCell, Map::size)
+                .description("구독자가 있는 셀 수")
+                .register(meterRegistry);
+    }
+    
+    public GeoGrid grid() {
+        return grid;
+    }
+    
+    /**
+     * 세션의 뷰포트를 cells로 바꾼다.
+     *
+     * @return 이전 뷰포트에 없던 셀 (스냅샷을 보낼 대상)
+     */
+    public Set<Long> update(String sessionId, String userName, Set<Long> cells) {
+        Set<Long> entered = new HashSet<>();
+        viewports.compute(sessionId, (id, previous) -> {
+            Set<Long> before = previous != null ? previous.cells() : Set.of();
+            for (Long cell : before) {
+                if (!cells.contains(cell)) {
+                    removeFromCell(cell, id);
+                }
+            }
+            for (Long cell : cells) {
+                if (!before.contains(cell)) {
+                    addToCell(cell, id);
+                    entered.add(cell);
+                }
+            }
+            return new Viewport(userName, Set.copyOf(cells));
+        });
+        return entered;
+    }
+    
+    public void remove(String sessionId) {
+        viewports.computeIfPresent(sessionId, (id, viewport) -> {
+            viewport.cells().forEach(cell -> removeFromCell(cell, id));
+            return null;
+        });
+    }
+    
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        remove(event.getSessionId());
+    }
+    
+    public List<Viewer> viewers(long cell) {
+        Set<String> sessionIds = sessionsByCell.get(cell);
+        if (sessionIds == null) {
+            return List.of();
+        }
+        List<Viewer> viewers = new ArrayList<>(sessionIds.size());
+        for (String sessionId : sessionIds) {
+            Viewport viewport = viewports.get(sessionId);
+            if (viewport != null) {
+                viewers.add(new Viewer(sessionId, viewport.userName()));
+            }
+        }
+        return viewers;
+    }
+    
+    private void addToCell(long cell, String sessionId) {
+        sessionsByCell.compute(cell, (key, sessionIds) -> {
+            Set<String> target = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+            target.add(sessionId);
+            return target;
+        });
+    }
+    
+    private void removeFromCell(long cell, String sessionId) {
+        sessionsByCell.computeIfPresent(cell, (key, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+    
+    private record Viewport(String userName, Set<Long> cells) {
+    }
+    
+    public record Viewer(String sessionId, String userName) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.pnu.basketball.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 Access Token(jti) 목록. 모든 노드가 메모리에 같은 집합을 들고 있어 요청마다 Redis를 조회하지 않는다.
+ * 폐기는 Redis ZSET(revoked_access_tokens, score = 토큰 exp)에 기록하고 pub/sub으로 즉시 전파한다.
+ * 메시지를 놓친 노드는 주기적으로 ZSET 전체를 다시 읽어 맞추며, 이때 exp가 지난 항목은 Redis와 메모리 양쪽에서 지운다.
+ * 항목은 UUID 키와 exp 값이므로 10만 건에 약 7MB(항목당 약 73바이트)를 쓴다 (./gradlew revocationMemoryReport).
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+    
+    private static final String SNAPSHOT_KEY = "revoked_access_tokens";
+    private static final String CHANNEL = "access_token_revocation";
+    private static final String METRIC_PREFIX = "jwt.revocations";
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<UUID, Long> revoked = new ConcurrentHashMap<>();
+    
+    private final Counter receivedCounter;
+    private final Counter syncFailureCounter;
+    
+    public AccessTokenRevocationList(RedisTemplate<String, String> redisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.receivedCounter = Counter.builder(METRIC_PREFIX + ".received")
+                .description("pub/sub으로 받은 폐기 수")
+                .register(meterRegistry);
+        this.syncFailureCounter = Counter.builder(METRIC_PREFIX + ".sync.failures")
+                .description("스냅샷 동기화 실패 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", revoked, Map::size)
+                .description("메모리에 있는 폐기 토큰 수")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void init() {
+        // 구독을 먼저 시작해야 스냅샷을 읽는 사이의 폐기도 놓치지 않는다
+        redisMessageListenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+        sync();
+    }
+    
+    /**
+     * jti가 없으면 폐기 여부를 알 수 없으므로 폐기된 것으로 본다.
+     */
+    public boolean isRevoked(UUID tokenId) {
+        return tokenId == null || revoked.containsKey(tokenId);
+    }
+    
+    /**
+     * 토큰을 폐기한다. Redis 기록과 전파가 실패하면 예외를 그대로 던진다 (이 노드에는 이미 반영됨).
+     */
+    public void revoke(UUID tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        add(tokenId, expiresAtMillis);
+        byte[] key = SNAPSHOT_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] member = tokenId.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] message = (tokenId + ":" + expiresAtMillis).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, expiresAtMillis, member);
+            connection.publish(CHANNEL.getBytes(StandardCharsets.UTF_8), message);
+            return null;
+        });
+    }
+    
+    /**
+     * 이 노드의 집합에만 반영한다 (전파 수신, 스냅샷 적재).
+     */
+    public void add(UUID tokenId, long expiresAtMillis) {
+        revoked.merge(tokenId, expiresAtMillis, Math::max);
+    }
+    
+    public int size() {
+        return revoked.size();
+    }
+    
+    /**
+     * 스냅샷 압축(만료 항목 삭제) 후 남은 항목을 합치고, 메모리에서도 만료 항목을 지운다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval}", initialDelayString = "${jwt.revocation.sync-interval}")
+    public void sync() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+        try {
+            ZSetOperations<String, String> snapshot = redisTemplate.opsForZSet();
+            snapshot.removeRangeByScore(SNAPSHOT_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    snapshot.rangeByScoreWithScores(SNAPSHOT_KEY, now, Double.POSITIVE_INFINITY);
+            if (entries != null) {
+                entries.forEach(entry -> add(UUID.fromString(entry.getValue()), entry.getScore().longValue()));
+            }
+            log.debug("폐기 토큰 동기화: snapshot={}, local={}", entries != null ? entries.size() : 0, revoked.size());
+        } catch (DataAccessException e) {
+            syncFailureCounter.increment();
+            log.warn("폐기 토큰 동기화 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+    
+    private void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            add(UUID.fromString(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+            receivedCounter.increment();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("폐기 토큰 메시지 처리 실패: {}", body);
+        }
+    }
+}
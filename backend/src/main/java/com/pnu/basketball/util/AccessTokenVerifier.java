@@ -0,0 +1,33 @@
+package com.pnu.basketball.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 검증 (HTTP 필터와 WebSocket 핸드셰이크 공용).
+ * 이미 검증된 토큰은 서명 검증/클레임 파싱 없이 캐시에서 반환한다.
+ * 폐기 여부는 캐시 적중 시에도 매번 메모리의 폐기 목록으로 확인한다 (네트워크 왕복 없음).
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessTokenVerifier {
+    
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    
+    /**
+     * @return 유효하지 않거나 폐기된 토큰이면 null
+     */
+    public JwtPrincipal verify(String token) {
+        JwtPrincipal principal = verifiedTokenCache.get(token);
+        if (principal == null) {
+            principal = jwtUtil.verifyAccessToken(token);
+            if (principal == null) {
+                return null;
+            }
+            verifiedTokenCache.put(token, principal);
+        }
+        return accessTokenRevocationList.isRevoked(principal.tokenId()) ? null : principal;
+    }
+}
@@ -0,0 +1,241 @@
+package com.pnu.basketball.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * write-behind 저장의 공통 부분: 고정 크기 대기열, 전용 저장 스레드, 배치 INSERT, 재시도, 종료 처리.
+ * 전용 스레드가 batch-size개가 모이거나 첫 항목 후 flush-interval이 지나면 한 번에 저장한다 (0이면 쌓인 만큼 바로 저장).
+ * 배치는 한 트랜잭션으로 저장하므로 실패한 배치는 일부만 저장되지 않는다.
+ *
+ * 실패 처리:
+ * - 일시적 오류(연결 실패, 트랜잭션 시작 실패, 타임아웃, 락 경합 등)는 같은 배치를 백오프하며 재시도한다.
+ * - 그 밖의 오류(제약 조건 위반, 값 길이 초과 등)는 배치를 반으로 나눠 다시 저장해 원인 항목만 골라내고,
+ *   그 항목은 버린 뒤 {prefix}.rejected로 집계하고 rejectionHandler에 넘긴다. 한 항목 때문에 대기열 전체가 멈추지 않는다.
+ */
+@Slf4j
+public class BatchingWriter<T> {
+    
+    private static final long IDLE_POLL_MILLIS = 200;
+    private static final long INITIAL_RETRY_BACKOFF_MILLIS = 100;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5000;
+    private static final int SHUTDOWN_RETRY_ATTEMPTS = 3;
+    
+    private final String name;
+    private final String noun;
+    private final Consumer<List<T>> sink;
+    private final Consumer<T> rejectionHandler;
+    private final TransactionOperations transactionOperations;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMillis;
+    
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter flushFailureCounter;
+    private final Counter rejectedCounter;
+    
+    private volatile boolean running = true;
+    private Thread writerThread;
+    
+    /**
+     * @param name         저장 스레드 이름
+     * @param metricPrefix 메트릭 접두사 ({prefix}.flush, .batch.size, .flush.failures, .rejected, .queue.size)
+     * @param noun         로그/메트릭 설명에 쓰는 항목 이름 (예: "채팅 메시지")
+     * @param sink         배치 저장 (트랜잭션 안에서 호출됨)
+     */
+    public BatchingWriter(String name, String metricPrefix, String noun,
+                          Consumer<List<T>> sink, Consumer<T> rejectionHandler,
+                          TransactionOperations transactionOperations, MeterRegistry meterRegistry,
+                          int queueCapacity, int batchSize, long flushIntervalMillis, long shutdownTimeoutMillis) {
+        this.name = name;
+        this.noun = noun;
+        this.sink = sink;
+        this.rejectionHandler = rejectionHandler;
+        this.transactionOperations = transactionOperations;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        
+        this.flushTimer = Timer.builder(metricPrefix + ".flush")
+                .description(noun + " 배치 INSERT 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(metricPrefix + ".batch.size")
+                .description("배치당 " + noun + " 수")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder(metricPrefix + ".flush.failures")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(metricPrefix + ".rejected")
+                .description("재시도해도 저장할 수 없어 버린 " + noun + " 수")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 " + noun + " 수")
+                .register(meterRegistry);
+    }
+    
+    public void start() {
+        writerThread = new Thread(this::run, name);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+    
+    /**
+     * @return 대기열이 가득 차면 false
+     */
+    public boolean offer(T item) {
+        return queue.offer(item);
+    }
+    
+    /**
+     * 대기열에 자리가 날 때까지 최대 timeout 동안 기다린다.
+     */
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.offer(item, timeout, unit);
+    }
+    
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청: 모은 배치를 저장하고 남은 항목은 반복문 조건에 따라 계속 저장한다
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    flush(batch);
+                } catch (RuntimeException e) {
+                    // 저장 스레드가 죽으면 대기열이 가득 찬 채로 남으므로 어떤 오류에도 계속 돈다
+                    log.error("{} 저장 스레드 오류, {}건 유실", noun, batch.size(), e);
+                }
+                batch.clear();
+            }
+        }
+    }
+    
+    /**
+     * batchSize개가 모이거나 첫 항목 후 flush-interval이 지날 때까지 모은다 (종료 중에는 기다리지 않음).
+     */
+    private void collect(List<T> batch) throws InterruptedException {
+        T first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+    
+    private void flush(List<T> batch) {
+        long backoffMillis = INITIAL_RETRY_BACKOFF_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                long startedAt = System.nanoTime();
+                write(batch);
+                flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                batchSizeSummary.record(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                flushFailureCounter.increment();
+                if (!isRetryable(e)) {
+                    isolate(batch, e);
+                    return;
+                }
+                if (!running && attempt >= SHUTDOWN_RETRY_ATTEMPTS) {
+                    log.error("종료 중 {} 저장 실패, {}건 유실: {}", noun, batch.size(), e.getMessage());
+                    return;
+                }
+                log.warn("{} 저장 실패 (attempt={}, size={}), {}ms 후 재시도: {}",
+                        noun, attempt, batch.size(), backoffMillis, e.getMessage());
+                sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+    
+    /**
+     * 재시도해도 같은 결과인 오류: 배치를 나눠 저장해 원인 항목만 버린다.
+     */
+    private void isolate(List<T> batch, RuntimeException cause) {
+        if (batch.size() == 1) {
+            T item = batch.get(0);
+            rejectedCounter.increment();
+            log.error("{} 저장 불가, 버림: {} ({})", noun, item, cause.getMessage());
+            try {
+                rejectionHandler.accept(item);
+            } catch (RuntimeException e) {
+                log.error("{} 저장 불가 처리 실패: {}", noun, item, e);
+            }
+            return;
+        }
+        int middle = batch.size() / 2;
+        flush(batch.subList(0, middle));
+        flush(batch.subList(middle, batch.size()));
+    }
+    
+    private void write(List<T> batch) {
+        transactionOperations.executeWithoutResult(status -> sink.accept(batch));
+    }
+    
+    // 연결 실패는 계층상 NonTransient이지만 DB가 돌아오면 성공하므로 재시도한다.
+    // DB에 연결할 수 없으면 트랜잭션 시작 단계에서 CannotCreateTransactionException(DataAccessException 아님)이 난다.
+    private static boolean isRetryable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException
+                || e instanceof TransactionTimedOutException;
+    }
+    
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // 종료 요청: 남은 재시도 횟수만큼 저장을 시도한 뒤 끝낸다
+            running = false;
+        }
+    }
+    
+    public int size() {
+        return queue.size();
+    }
+    
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(shutdownTimeoutMillis);
+        if (writerThread.isAlive()) {
+            log.error("{} 저장 스레드 종료 시간 초과: 미저장 {}건", noun, queue.size());
+        }
+    }
+}
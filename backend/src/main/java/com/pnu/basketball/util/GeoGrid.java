@@ -0,0 +1,128 @@
+package com.pnu.basketball.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 위경도를 고정 크기 격자 셀로 나누는 계산. 셀 키는 행(위도) x 열(경도)을 하나의 long으로 합친 값이다.
+ */
+public class GeoGrid {
+    
+    private final double cellSizeDegrees;
+    private final long columns;
+    
+    public GeoGrid(double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0 || cellSizeDegrees > 1) {
+            throw new IllegalArgumentException("cellSizeDegrees must be in (0, 1]");
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.columns = (long) Math.ceil(360 / cellSizeDegrees) + 1;
+    }
+    
+    public long cellOf(double latitude, double longitude) {
+        return cellKey(row(latitude), column(longitude));
+    }
+    
+    /**
+     * 경계 상자와 겹치는 셀 수 (셀 목록을 만들기 전에 크기를 제한하는 용도)
+     */
+    public long countCells(double south, double west, double north, double east) {
+        return (row(north) - row(south) + 1) * (column(east) - column(west) + 1);
+    }
+    
+    /**
+     * 경계 상자와 겹치는 셀. 날짜 변경선을 넘는 상자(west > east)는 지원하지 않는다.
+     */
+    public Set<Long> cellsCovering(double south, double west, double north, double east) {
+        Set<Long> cells = new HashSet<>();
+        for (long row = row(south); row <= row(north); row++) {
+            for (long column = column(west); column <= column(east); column++) {
+                cells.add(cellKey(row, column));
+            }
+        }
+        return cells;
+    }
+    
+    /**
+     * 셀들을 정확히 덮는 겹치지 않는 직사각형 [남, 서, 북, 동] 목록.
+     * 행마다 연속된 열 구간으로 나누고, 같은 구간이 다음 행에도 이어지면 한 직사각형으로 합친다.
+     * 지도를 한 방향으로 옮겨 새로 들어온 셀은 보통 직사각형 1~2개가 된다.
+     */
+    public List<double[]> rectanglesOf(Set<Long> cells) {
+        TreeMap<Long, TreeSet<Long>> columnsByRow = new TreeMap<>();
+        for (long cell : cells) {
+            columnsByRow.computeIfAbsent(cell / columns, row -> new TreeSet<>()).add(cell % columns);
+        }
+        
+        List<double[]> rectangles = new ArrayList<>();
+        Map<ColumnRun, long[]> open = new LinkedHashMap<>();  // 열 구간 -> [시작 행, 마지막 행]
+        for (Map.Entry<Long, TreeSet<Long>> entry : columnsByRow.entrySet()) {
+            long row = entry.getKey();
+            Set<ColumnRun> runs = runsOf(entry.getValue());
+            Iterator<Map.Entry<ColumnRun, long[]>> iterator = open.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<ColumnRun, long[]> rectangle = iterator.next();
+                if (rectangle.getValue()[1] != row - 1 || !runs.contains(rectangle.getKey())) {
+                    rectangles.add(bounds(rectangle.getKey(), rectangle.getValue()));
+                    iterator.remove();
+                }
+            }
+            for (ColumnRun run : runs) {
+                long[] rows = open.get(run);
+                if (rows == null) {
+                    open.put(run, new long[]{row, row});
+                } else {
+                    rows[1] = row;
+                }
+            }
+        }
+        open.forEach((run, rows) -> rectangles.add(bounds(run, rows)));
+        return rectangles;
+    }
+    
+    private static Set<ColumnRun> runsOf(TreeSet<Long> sortedColumns) {
+        Set<ColumnRun> runs = new HashSet<>();
+        long first = sortedColumns.first();
+        long last = first;
+        for (long column : sortedColumns.tailSet(first, false)) {
+            if (column != last + 1) {
+                runs.add(new ColumnRun(first, last));
+                first = column;
+            }
+            last = column;
+        }
+        runs.add(new ColumnRun(first, last));
+        return runs;
+    }
+    
+    private double[] bounds(ColumnRun run, long[] rows) {
+        return new double[]{
+                rows[0] * cellSizeDegrees - 90,
+                run.first() * cellSizeDegrees - 180,
+                (rows[1] + 1) * cellSizeDegrees - 90,
+                (run.last() + 1) * cellSizeDegrees - 180
+        };
+    }
+    
+    private record ColumnRun(long first, long last) {
+    }
+    
+    long row(double latitude) {
+        return (long) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / cellSizeDegrees);
+    }
+    
+    long column(double longitude) {
+        return (long) Math.floor((Math.max(-180, Math.min(180, longitude)) + 180) / cellSizeDegrees);
+    }
+    
+    long cellKey(long row, long column) {
+        return row * columns + column;
+    }
+}
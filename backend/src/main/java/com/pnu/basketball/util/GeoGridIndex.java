@@ -0,0 +1,167 @@
+package com.pnu.basketball.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위경도 격자 기반 공간 인덱스.
+ * 좌표를 고정 크기 격자 셀로 나누어 저장하고, 반경 검색은 반경을 덮는 셀만 확인한다.
+ * 셀은 copy-on-write 배열이므로 조회는 잠금 없이 수행되고, 변경(등록/위치 수정)은 드물다는 전제로 동기화한다.
+ */
+public class GeoGridIndex {
+    
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    
+    private final GeoGrid grid;
+    private final Map<Long, Point[]> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    
+    public GeoGridIndex(double cellSizeDegrees) {
+        this.grid = new GeoGrid(cellSizeDegrees);
+    }
+    
+    /**
+     * 등록하거나, 이미 있으면 위치를 옮긴다.
+     */
+    public synchronized void put(long id, double latitude, double longitude) {
+        Point previous = points.get(id);
+        if (previous != null) {
+            if (previous.latitude == latitude && previous.longitude == longitude) {
+                return;
+            }
+            removeFromCell(previous);
+        }
+        Point point = new Point(id, latitude, longitude, grid.cellOf(latitude, longitude));
+        points.put(id, point);
+        cells.merge(point.cellKey, new Point[]{point}, (current, added) -> {
+            Point[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = point;
+            return grown;
+        });
+    }
+    
+    /**
+     * 아직 없는 경우에만 등록한다 (초기 적재 중 도착한 최신 변경을 덮어쓰지 않도록).
+     */
+    public synchronized void putIfAbsent(long id, double latitude, double longitude) {
+        if (!points.containsKey(id)) {
+            put(id, latitude, longitude);
+        }
+    }
+    
+    public synchronized void remove(long id) {
+        Point previous = points.remove(id);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+    
+    /**
+     * 중심에서 radiusMeters 이내의 항목을 가까운 순으로 최대 limit개 반환한다.
+     * 후보는 등장방형 근사 거리로 거르고(수 km 반경에서 오차는 cm 미만), 결과 limit개만 haversine으로 계산한다.
+     */
+    public List<Hit> search(double latitude, double longitude, double radiusMeters, int limit) {
+        double latitudeDelta = latitudeDelta(radiusMeters);
+        double longitudeDelta = longitudeDelta(latitude, radiusMeters);
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        double sinLatitude = Math.sin(Math.toRadians(latitude));
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+        double minLongitude = longitude - longitudeDelta;
+        double maxLongitude = longitude + longitudeDelta;
+        double radiusDegreesSquared = latitudeDelta * latitudeDelta;
+        
+        // 가장 먼 후보가 맨 위에 오는 크기 limit의 힙
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(Math.min(limit, 1024) + 1,
+                Comparator.comparingDouble(Candidate::degreesSquared).reversed());
+        long minRow = grid.row(minLatitude);
+        long maxRow = grid.row(maxLatitude);
+        long minColumn = grid.column(minLongitude);
+        long maxColumn = grid.column(maxLongitude);
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                Point[] cell = cells.get(grid.cellKey(row, column));
+                if (cell == null) {
+                    continue;
+                }
+                for (Point point : cell) {
+                    double dLatitude = point.latitude - latitude;
+                    // 두 점의 중간 위도 코사인을 1차 근사해 경도 거리를 보정한다
+                    double midCos = cosLatitude - sinLatitude * Math.toRadians(dLatitude) / 2;
+                    double dLongitude = (point.longitude - longitude) * midCos;
+                    double degreesSquared = dLatitude * dLatitude + dLongitude * dLongitude;
+                    if (degreesSquared > radiusDegreesSquared) {
+                        continue;
+                    }
+                    if (nearest.size() < limit) {
+                        nearest.add(new Candidate(point, degreesSquared));
+                    } else if (degreesSquared < nearest.peek().degreesSquared()) {
+                        nearest.poll();
+                        nearest.add(new Candidate(point, degreesSquared));
+                    }
+                }
+            }
+        }
+        
+        List<Hit> hits = new ArrayList<>(nearest.size());
+        for (Candidate candidate : nearest) {
+            Point point = candidate.point();
+            hits.add(new Hit(point.id, distanceMeters(latitude, longitude, point.latitude, point.longitude)));
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits;
+    }
+    
+    /**
+     * 반경 radiusMeters 원을 감싸는 위도 폭(도)
+     */
+    public static double latitudeDelta(double radiusMeters) {
+        return Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+    }
+    
+    /**
+     * 위도 latitude에서 반경 radiusMeters 원을 감싸는 경도 폭(도)
+     */
+    public static double longitudeDelta(double latitude, double radiusMeters) {
+        double ratio = Math.sin(radiusMeters / EARTH_RADIUS_METERS)
+                / Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        return ratio >= 1 ? 180 : Math.toDegrees(Math.asin(ratio));
+    }
+    
+    public int size() {
+        return points.size();
+    }
+    
+    /**
+     * 두 좌표 사이의 대원 거리 (haversine, 미터)
+     */
+    public static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+    
+    private void removeFromCell(Point point) {
+        cells.computeIfPresent(point.cellKey, (key, current) -> {
+            Point[] remaining = Arrays.stream(current).filter(p -> p.id != point.id).toArray(Point[]::new);
+            return remaining.length == 0 ? null : remaining;
+        });
+    }
+    
+    private record Candidate(Point point, double degreesSquared) {
+    }
+    
+    private record Point(long id, double latitude, double longitude, long cellKey) {
+    }
+    
+    public record Hit(long id, double distanceMeters) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.pnu.basketball.util;
+
+import java.util.UUID;
+
+/**
+ * 서명/만료 검증을 통과한 Access Token의 인증 정보.
+ * tokenId(jti)는 폐기 목록 조회용이며 항상 있다 (jti가 없는 토큰은 검증에서 거절됨).
+ */
+public record JwtPrincipal(Long userId, String loginType, long expiresAtMillis, UUID tokenId) {
+    
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
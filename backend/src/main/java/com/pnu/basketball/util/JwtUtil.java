@@ -1,20 +1,46 @@
 package com.pnu.basketball.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
     
+    public static final String SESSION_ID_CLAIM = "sid";
+    public static final String TOKEN_TYPE_CLAIM = "tokenType";
+    public static final String REFRESH_TOKEN_TYPE = "REFRESH";
+    
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+    
     @Value("${jwt.secret}")
     private String secret;
     
@@ -24,44 +50,89 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration}")
     private Long refreshTokenExpiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private String signedHeader;
+    private ThreadLocal<Mac> macs;
+    // 가상 스레드는 요청마다 새로 생성되므로 ThreadLocal 대신 공유 풀에서 Mac을 재사용한다
+    private final Queue<Mac> sharedMacs = new ConcurrentLinkedQueue<>();
+    
+    private final Timer accessTokenSignTimer;
+    private final Timer refreshTokenSignTimer;
+    private final Timer verifyTimer;
+    private final Timer parseTimer;
+    private final Counter rejectedCounter;
+    
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.accessTokenSignTimer = signTimer(meterRegistry, "access");
+        this.refreshTokenSignTimer = signTimer(meterRegistry, "refresh");
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("Access Token 서명 검증 및 클레임 추출 시간")
+                .register(meterRegistry);
+        this.parseTimer = Timer.builder("jwt.parse")
+                .description("jjwt 파서로 서명 검증 및 전체 클레임을 파싱한 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("jwt.verify.rejected")
+                .description("검증에 실패한 Access Token 수 (서명 불일치/만료/형식 오류)")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        // 키 길이에 따라 HmacSHA256/384/512가 결정되며, 발급되는 토큰의 헤더도 항상 동일하다
+        String sample = Jwts.builder().subject("0").signWith(signingKey).compact();
+        signedHeader = sample.substring(0, sample.indexOf('.'));
+        macs = ThreadLocal.withInitial(this::newMac);
     }
     
     public String generateAccessToken(Long userId, String email, String nickname, String loginType) {
+        long startedAt = System.nanoTime();
         Map<String, Object> claims = new HashMap<>();
         claims.put("email", email);
         claims.put("nickname", nickname);
         claims.put("loginType", loginType);
         
-        return Jwts.builder()
+        // jti: 로그아웃 시 이 토큰만 폐기 목록에 올리기 위한 식별자
+        String token = Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userId))
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
+        accessTokenSignTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return token;
     }
     
-    public String generateRefreshToken(Long userId) {
+    public String generateRefreshToken(Long userId, String sessionId) {
+        long startedAt = System.nanoTime();
         Map<String, Object> claims = new HashMap<>();
-        claims.put("tokenType", "REFRESH");
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        claims.put(SESSION_ID_CLAIM, sessionId);
         
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .claims(claims)
                 .subject(String.valueOf(userId))
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
+        refreshTokenSignTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return token;
     }
     
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        long startedAt = System.nanoTime();
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } finally {
+            parseTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
     }
     
     public Long extractUserId(String token) {
@@ -83,5 +154,160 @@ public class JwtUtil {
             return false;
         }
     }
+    
+    /**
+     * 토큰을 한 번만 파싱/검증하여 인증 정보를 반환한다. 유효하지 않거나 만료된 토큰, jti가 없는 토큰, Refresh Token이면 null.
+     * 이 서버가 발급한 형태의 토큰은 Claims 맵을 만들지 않고 sub/exp/loginType/jti/tokenType/sid만 읽는 경로로 처리한다.
+     */
+    public JwtPrincipal verifyAccessToken(String token) {
+        long startedAt = System.nanoTime();
+        JwtPrincipal principal = verify(token);
+        verifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (principal == null) {
+            rejectedCounter.increment();
+        }
+        return principal;
+    }
+    
+    private JwtPrincipal verify(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd < 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+        
+        if (!token.startsWith(signedHeader) || headerEnd != signedHeader.length()) {
+            return verifyWithParser(token);
+        }
+        
+        try {
+            byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+            
+            byte[] expectedSignature = sign(tokenBytes, payloadEnd);
+            byte[] signature = decode(tokenBytes, payloadEnd + 1, tokenBytes.length - payloadEnd - 1);
+            if (!MessageDigest.isEqual(expectedSignature, signature)) {
+                return null;
+            }
+            
+            byte[] payload = decode(tokenBytes, headerEnd + 1, payloadEnd - headerEnd - 1);
+            return readPrincipal(payload, System.currentTimeMillis());
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+    
+    private JwtPrincipal verifyWithParser(String token) {
+        try {
+            Claims claims = extractClaims(token);
+            if (claims.getId() == null
+                    || isRefreshToken(claims.get(TOKEN_TYPE_CLAIM, String.class), claims.get(SESSION_ID_CLAIM) != null)) {
+                return null;
+            }
+            return new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("loginType", String.class),
+                    claims.getExpiration().getTime(),
+                    UUID.fromString(claims.getId())
+            );
+        } catch (JwtException | IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+    
+    private JwtPrincipal readPrincipal(byte[] payload, long nowMillis) throws IOException {
+        String subject = null;
+        String loginType = null;
+        String tokenId = null;
+        String tokenType = null;
+        boolean hasSessionId = false;
+        long expiresAtMillis = -1;
+        long notBeforeMillis = -1;
+        
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "sub" -> subject = parser.getValueAsString();
+                    case "loginType" -> loginType = parser.getValueAsString();
+                    case "jti" -> tokenId = parser.getValueAsString();
+                    case TOKEN_TYPE_CLAIM -> tokenType = parser.getValueAsString();
+                    case SESSION_ID_CLAIM -> {
+                        hasSessionId = true;
+                        if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "exp" -> expiresAtMillis = parser.getValueAsLong(-1) * 1000;
+                    case "nbf" -> notBeforeMillis = parser.getValueAsLong(-1) * 1000;
+                    default -> {
+                        if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+        }
+        
+        // jti가 없으면 폐기할 수 없는 토큰이므로 거절한다
+        if (subject == null || tokenId == null || expiresAtMillis <= nowMillis || notBeforeMillis > nowMillis
+                || isRefreshToken(tokenType, hasSessionId)) {
+            return null;
+        }
+        return new JwtPrincipal(Long.parseLong(subject), loginType, expiresAtMillis, UUID.fromString(tokenId));
+    }
+    
+    // 같은 키로 서명된 Refresh Token(7일)을 Bearer 토큰으로 쓰지 못하게 한다
+    private static boolean isRefreshToken(String tokenType, boolean hasSessionId) {
+        return REFRESH_TOKEN_TYPE.equals(tokenType) || hasSessionId;
+    }
+    
+    private static Timer signTimer(MeterRegistry meterRegistry, String tokenType) {
+        return Timer.builder("jwt.sign")
+                .description("JWT 생성 및 서명 시간")
+                .tag("type", tokenType)
+                .register(meterRegistry);
+    }
+    
+    private byte[] sign(byte[] source, int length) {
+        if (!Thread.currentThread().isVirtual()) {
+            Mac mac = macs.get();
+            mac.update(source, 0, length);
+            return mac.doFinal();
+        }
+        
+        Mac mac = sharedMacs.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
+        try {
+            mac.update(source, 0, length);
+            return mac.doFinal();
+        } finally {
+            sharedMacs.offer(mac);
+        }
+    }
+    
+    private static byte[] decode(byte[] source, int offset, int length) {
+        ByteBuffer decoded = BASE64_URL_DECODER.decode(ByteBuffer.wrap(source, offset, length));
+        if (decoded.hasArray() && decoded.arrayOffset() == 0 && decoded.remaining() == decoded.array().length) {
+            return decoded.array();
+        }
+        byte[] bytes = new byte[decoded.remaining()];
+        decoded.get(bytes);
+        return bytes;
+    }
+    
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(signingKey.getAlgorithm());
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 Mac 초기화 실패", e);
+        }
+    }
 }
-
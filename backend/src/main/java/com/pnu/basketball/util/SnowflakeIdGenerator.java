@@ -0,0 +1,76 @@
+package com.pnu.basketball.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간순으로 정렬되는 64bit ID 생성기 (Snowflake: 41bit 밀리초 + 10bit 노드 + 12bit 순번).
+ * DB 시퀀스 없이 노드마다 독립적으로 발급하므로, 저장 전에 ID가 필요한 write-behind 저장에 사용한다.
+ * 노드 ID가 겹치면 같은 밀리초에 같은 ID가 나올 수 있으므로 여러 노드에서는 노드마다 다른 값을 지정해야 한다.
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+    
+    public static final long EPOCH_MILLIS = 1767225600000L;  // 2026-01-01T00:00:00Z
+    
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    
+    private final long nodeId;
+    private long lastMillis = -1;
+    private long sequence;
+    
+    public SnowflakeIdGenerator(@Value("${snowflake.node-id:-1}") long nodeId) {
+        if (nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("snowflake.node-id는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId >= 0 ? nodeId : ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1);
+        if (nodeId < 0) {
+            log.info("snowflake.node-id 미지정: 임의 노드 ID {} 사용", this.nodeId);
+        }
+    }
+    
+    public synchronized long nextId() {
+        // 시계가 뒤로 가면 마지막 시각을 계속 사용해 단조 증가를 유지
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = waitNextMillis(lastMillis);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+    
+    public static long timestampMillis(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+    
+    /**
+     * ID에 담긴 발급 시각 (서버 시간대)
+     */
+    public static LocalDateTime timestamp(long id) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis(id)), ZoneId.systemDefault());
+    }
+    
+    private static long waitNextMillis(long lastMillis) {
+        long now = System.currentTimeMillis();
+        while (now <= lastMillis) {
+            Thread.onSpinWait();
+            now = System.currentTimeMillis();
+        }
+        return now;
+    }
+}
@@ -0,0 +1,105 @@
+package com.pnu.basketball.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 통과한 Access Token 캐시.
+ * 토큰 원문 대신 SHA-256 다이제스트(128bit)를 키로 사용하며, 각 항목은 토큰의 exp 시각에 만료된다.
+ */
+@Component
+public class VerifiedTokenCache {
+    
+    private static final String CACHE_NAME = "jwt.verified_tokens";
+    
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+    
+    private final boolean enabled;
+    private final Cache<TokenDigest, JwtPrincipal> cache;
+    
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-size:100000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    public JwtPrincipal get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        JwtPrincipal principal = cache.getIfPresent(digest(token));
+        if (principal == null || principal.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return principal;
+    }
+    
+    public void put(String token, JwtPrincipal principal) {
+        if (!enabled || principal.isExpired(System.currentTimeMillis())) {
+            return;
+        }
+        cache.put(digest(token), principal);
+    }
+    
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+    
+    public long size() {
+        return cache.estimatedSize();
+    }
+    
+    private static TokenDigest digest(String token) {
+        // 가상 스레드에는 ThreadLocal 캐시가 의미 없으므로 매번 생성한다
+        MessageDigest messageDigest = Thread.currentThread().isVirtual() ? newDigest() : SHA256.get();
+        ByteBuffer hash = ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenDigest(hash.getLong(), hash.getLong());
+    }
+    
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private record TokenDigest(long high, long low) {
+    }
+    
+    private static class ExpireAtTokenExpiration implements Expiry<TokenDigest, JwtPrincipal> {
+        
+        @Override
+        public long expireAfterCreate(TokenDigest key, JwtPrincipal value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+        
+        @Override
+        public long expireAfterUpdate(TokenDigest key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(TokenDigest key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
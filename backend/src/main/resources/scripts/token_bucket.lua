@@ -0,0 +1,47 @@
+-- 토큰 버킷 (여러 버킷을 원자적으로 확인 후 모두 차감)
+-- KEYS[i]: 버킷 키
+-- ARGV[2i-1], ARGV[2i]: i번째 버킷의 용량, ms당 충전량
+-- 반환: {허용 여부(1/0), 재시도까지 대기(ms), 거절된 버킷 번호(1부터, 허용 시 0)}
+-- 현재 시각은 Redis 서버 시계를 쓴다 (노드 간 시계 차이로 공유 버킷이 더 차거나 덜 차지 않도록)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local timestamps = {}
+local tokens = {}
+local retry_after = 0
+local rejected = 0
+
+for i = 1, #KEYS do
+    local capacity = tonumber(ARGV[i * 2 - 1])
+    local rate = tonumber(ARGV[i * 2])
+    local state = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+    local current = tonumber(state[1])
+    local ts = tonumber(state[2])
+    if current == nil or ts == nil then
+        current = capacity
+        ts = now
+    end
+    -- 시계가 뒤로 간 경우 충전하지 않고, 기록된 시각도 되돌리지 않는다
+    current = math.min(capacity, current + math.max(0, now - ts) * rate)
+    tokens[i] = current
+    timestamps[i] = math.max(now, ts)
+    if current < 1 and rejected == 0 then
+        rejected = i
+        retry_after = math.ceil((1 - current) / rate)
+    end
+end
+
+for i = 1, #KEYS do
+    local capacity = tonumber(ARGV[i * 2 - 1])
+    local rate = tonumber(ARGV[i * 2])
+    local current = tokens[i]
+    if rejected == 0 then
+        current = current - 1
+    end
+    redis.call('HSET', KEYS[i], 'tokens', tostring(current), 'ts', tostring(timestamps[i]))
+    redis.call('PEXPIRE', KEYS[i], math.ceil(capacity / rate) + 1000)
+end
+
+if rejected == 0 then
+    return {1, 0, 0}
+end
+return {0, retry_after, rejected}
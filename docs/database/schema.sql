@@ -15,10 +15,91 @@ CREATE TABLE IF NOT EXISTS users (
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Courts 테이블 생성
+CREATE TABLE IF NOT EXISTS courts (
+    court_id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    address VARCHAR(255),
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    hoop_count INTEGER,
+    floor_type VARCHAR(20),  -- URETHANE, ASPHALT, CONCRETE, WOOD, OTHER
+    indoor BOOLEAN NOT NULL DEFAULT FALSE,
+    created_by BIGINT REFERENCES users(user_id) ON DELETE SET NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Matches 테이블 생성 (픽업 경기 모집)
+CREATE TABLE IF NOT EXISTS matches (
+    match_id BIGSERIAL PRIMARY KEY,
+    court_id BIGINT NOT NULL REFERENCES courts(court_id),
+    host_id BIGINT NOT NULL REFERENCES users(user_id),
+    title VARCHAR(100) NOT NULL,
+    capacity INTEGER NOT NULL CHECK (capacity > 0),
+    starts_at TIMESTAMP NOT NULL,
+    cancelled_at TIMESTAMP,  -- 호스트가 취소한 시각
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 경기 참가/취소 이벤트 로그 (애플리케이션이 배치로 기록, 재시작 시 sequence 순으로 재생해 명단 복구)
+CREATE TABLE IF NOT EXISTS match_participant_events (
+    event_id BIGINT NOT NULL UNIQUE,  -- Snowflake ID (재시도 중복 판별)
+    match_id BIGINT NOT NULL REFERENCES matches(match_id) ON DELETE CASCADE,
+    sequence BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    action VARCHAR(10) NOT NULL,  -- JOIN, LEAVE
+    occurred_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (match_id, sequence)
+);
+
+-- 채팅 메시지 (애플리케이션이 배치로 기록, sent_at 기준 월별 파티션)
+-- message_id는 시간순 Snowflake ID이며, 기본 키 (room_id, message_id, ...)가 커서 조회 인덱스를 겸한다.
+CREATE TABLE IF NOT EXISTS chat_messages (
+    room_id BIGINT NOT NULL,  -- 경기 ID
+    message_id BIGINT NOT NULL,
+    sender_id BIGINT NOT NULL,
+    content VARCHAR(1000) NOT NULL,
+    sent_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (room_id, message_id, sent_at)
+) PARTITION BY RANGE (sent_at);
+
+-- 이번 달부터 3개월치 파티션 (이후는 애플리케이션이 매일 미리 생성: ChatPartitionMaintainer)
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN 0..2 LOOP
+        month_start := (date_trunc('month', CURRENT_DATE) + make_interval(months => i))::DATE;
+        EXECUTE format('CREATE TABLE IF NOT EXISTS chat_messages_%s PARTITION OF chat_messages FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month_start, 'YYYYMM'), month_start, (month_start + INTERVAL '1 month')::DATE);
+    END LOOP;
+END $$;
+
+-- 파티션이 없는 구간의 메시지 보관용 (비어 있어야 해당 월 파티션을 만들 수 있다)
+CREATE TABLE IF NOT EXISTS chat_messages_default PARTITION OF chat_messages DEFAULT;
+
+-- 로그인 시도 기록 (애플리케이션이 배치로 기록, 어뷰징 분석용)
+-- 존재하지 않는 이메일로 시도한 기록도 남기므로 user_id는 NULL일 수 있고 users를 참조하지 않는다.
+CREATE TABLE IF NOT EXISTS login_history (
+    login_history_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT,
+    email VARCHAR(255),
+    login_type VARCHAR(20) NOT NULL,  -- EMAIL, GOOGLE
+    ip_address VARCHAR(45),
+    outcome VARCHAR(50) NOT NULL,  -- SUCCESS 또는 ErrorCode 이름
+    occurred_at TIMESTAMP NOT NULL
+);
+
 -- 인덱스 생성
+CREATE INDEX IF NOT EXISTS idx_matches_court_starts_at ON matches(court_id, starts_at);
+CREATE INDEX IF NOT EXISTS idx_courts_location ON courts(latitude, longitude);  -- 경계 상자 대체 조회용
 CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
 CREATE INDEX IF NOT EXISTS idx_users_google_id ON users(google_id);
 CREATE INDEX IF NOT EXISTS idx_users_nickname ON users(nickname);
+CREATE INDEX IF NOT EXISTS idx_login_history_user_occurred_at ON login_history(user_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_login_history_ip_occurred_at ON login_history(ip_address, occurred_at);
 
 -- updated_at 자동 업데이트를 위한 트리거 함수
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -35,6 +116,16 @@ CREATE TRIGGER update_users_updated_at
     FOR EACH ROW
     EXECUTE FUNCTION update_updated_at_column();
 
+CREATE TRIGGER update_courts_updated_at
+    BEFORE UPDATE ON courts
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+CREATE TRIGGER update_matches_updated_at
+    BEFORE UPDATE ON matches
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
 -- 코멘트 추가
 COMMENT ON TABLE users IS '사용자 정보 테이블';
 COMMENT ON COLUMN users.user_id IS '사용자 ID (Primary Key)';
@@ -48,3 +139,21 @@ COMMENT ON COLUMN users.google_id IS '구글 사용자 ID (구글 로그인 사
 COMMENT ON COLUMN users.created_at IS '생성일시';
 COMMENT ON COLUMN users.updated_at IS '수정일시';
 
+COMMENT ON TABLE courts IS '농구장 정보 테이블';
+COMMENT ON COLUMN courts.latitude IS '위도 (WGS84)';
+COMMENT ON COLUMN courts.longitude IS '경도 (WGS84)';
+COMMENT ON COLUMN courts.hoop_count IS '골대 수';
+COMMENT ON COLUMN courts.floor_type IS '바닥 재질';
+COMMENT ON COLUMN courts.created_by IS '등록한 사용자 ID';
+
+COMMENT ON TABLE matches IS '픽업 경기 모집 테이블';
+COMMENT ON COLUMN matches.capacity IS '모집 인원 (호스트 포함)';
+COMMENT ON COLUMN matches.cancelled_at IS '호스트가 취소한 시각 (취소되지 않았으면 NULL)';
+COMMENT ON TABLE match_participant_events IS '경기 참가/취소 이벤트 로그 (명단의 영속 기록)';
+COMMENT ON COLUMN match_participant_events.event_id IS '이벤트 ID (Snowflake, 같은 이벤트의 재저장은 무시)';
+COMMENT ON COLUMN match_participant_events.sequence IS '경기별 이벤트 순번 (1부터 연속)';
+COMMENT ON TABLE chat_messages IS '채팅 메시지 (월별 파티션)';
+COMMENT ON COLUMN chat_messages.message_id IS 'Snowflake ID (시간순)';
+
+COMMENT ON TABLE login_history IS '로그인 시도 기록 (비동기 배치 저장, 버퍼 초과 시 일부 누락 가능)';
+COMMENT ON COLUMN login_history.outcome IS '결과 (SUCCESS 또는 실패 ErrorCode 이름)';